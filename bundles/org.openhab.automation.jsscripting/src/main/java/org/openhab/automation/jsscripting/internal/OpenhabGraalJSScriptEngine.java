@@ -35,7 +35,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -58,6 +57,7 @@ import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
 import org.openhab.automation.jsscripting.internal.scope.ScriptExtensionModuleProvider;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocableAndCompilableAndAutoCloseable;
 import org.openhab.automation.jsscripting.internal.scriptengine.helper.LifecycleTracker;
+import org.openhab.automation.jsscripting.internal.threading.InstrumentedLock;
 import org.openhab.automation.jsscripting.internal.util.Slf4jOutputStream;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.LockableScriptEngine;
@@ -157,8 +157,8 @@ public class OpenhabGraalJSScriptEngine
 
     private final Logger logger = LoggerFactory.getLogger(OpenhabGraalJSScriptEngine.class);
 
-    /** {@link Lock} synchronization of multi-thread access */
-    private final Lock lock = new ReentrantLock();
+    /** {@link Lock} synchronization of multi-thread access, also records queue wait and execution times */
+    private final InstrumentedLock lock = new InstrumentedLock("<uninitialized>");
     private final JSRuntimeFeatures jsRuntimeFeatures;
     private final LifecycleTracker lifecycleTracker = new LifecycleTracker();
     private final GraalJSScriptEngineConfiguration configuration;
@@ -295,6 +295,7 @@ public class OpenhabGraalJSScriptEngine
             throw new IllegalStateException("Failed to retrieve engine identifier from engine bindings");
         }
         this.engineIdentifier = localEngineIdentifier;
+        lock.setName(localEngineIdentifier);
 
         ScriptExtensionAccessor scriptExtensionAccessor = (ScriptExtensionAccessor) ctx
                 .getAttribute(CONTEXT_KEY_EXTENSION_ACCESSOR);
@@ -454,7 +455,7 @@ public class OpenhabGraalJSScriptEngine
                 jsRuntimeFeatures.close();
                 this.lifecycleTracker.dispose();
             } finally {
-                logger.debug("Engine '{}' disposed.", engineIdentifier);
+                logger.debug("Engine '{}' disposed ({}).", engineIdentifier, lock.getSummary());
                 super.close();
                 logger.debug("Engine '{}' closed.", engineIdentifier);
             }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReentrantLock} that records how long threads wait to acquire it and how long it is held.
+ * <p>
+ * All accesses to a GraalJS context are synchronized with the lock of its engine, so the wait time is the time an
+ * invocation (e.g. a rule trigger or timer callback) is queued behind other invocations of the same script, and the
+ * hold time is the time spent executing the script. Only the outermost acquisition of a reentrant lock is measured.
+ * Invocations which are queued or executed for longer than {@link #SLOW_INVOCATION_MS} are logged at DEBUG level.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class InstrumentedLock implements Lock {
+    private static final long SLOW_INVOCATION_MS = 1000;
+    private static final long SLOW_INVOCATION_NANOS = TimeUnit.MILLISECONDS.toNanos(SLOW_INVOCATION_MS);
+
+    private final Logger logger = LoggerFactory.getLogger(InstrumentedLock.class);
+    private final ReentrantLock delegate = new ReentrantLock();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder totalExecutionNanos = new LongAdder();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+    private volatile String name;
+
+    // the following fields are only accessed while holding the lock
+    private long acquiredAt;
+    private long waitNanos;
+
+    public InstrumentedLock(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void lock() {
+        long requestedAt = System.nanoTime();
+        delegate.lock();
+        acquired(requestedAt);
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        long requestedAt = System.nanoTime();
+        delegate.lockInterruptibly();
+        acquired(requestedAt);
+    }
+
+    @Override
+    public boolean tryLock() {
+        long requestedAt = System.nanoTime();
+        if (delegate.tryLock()) {
+            acquired(requestedAt);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        long requestedAt = System.nanoTime();
+        if (delegate.tryLock(time, unit)) {
+            acquired(requestedAt);
+            return true;
+        }
+        timeouts.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public void unlock() {
+        if (delegate.isHeldByCurrentThread() && delegate.getHoldCount() == 1) {
+            long executionNanos = System.nanoTime() - acquiredAt;
+            totalExecutionNanos.add(executionNanos);
+            maxExecutionNanos.accumulateAndGet(executionNanos, Math::max);
+            if (waitNanos > SLOW_INVOCATION_NANOS || executionNanos > SLOW_INVOCATION_NANOS) {
+                logger.debug("Slow invocation of engine '{}': queued for {} ms, executed for {} ms ({}).", name,
+                        TimeUnit.NANOSECONDS.toMillis(waitNanos), TimeUnit.NANOSECONDS.toMillis(executionNanos),
+                        getSummary());
+            } else if (logger.isTraceEnabled()) {
+                logger.trace("Engine '{}' executed for {} ms.", name, TimeUnit.NANOSECONDS.toMillis(executionNanos));
+            }
+        }
+        delegate.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return delegate.newCondition();
+    }
+
+    private void acquired(long requestedAt) {
+        if (delegate.getHoldCount() != 1) {
+            return;
+        }
+        acquiredAt = System.nanoTime();
+        waitNanos = acquiredAt - requestedAt;
+        invocations.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Engine '{}' acquired lock after waiting {} ms.", name,
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    /**
+     * @return a human-readable summary of the queue wait and execution times
+     */
+    public String getSummary() {
+        long count = invocations.sum();
+        long averageWait = count == 0 ? 0 : totalWaitNanos.sum() / count;
+        long averageExecution = count == 0 ? 0 : totalExecutionNanos.sum() / count;
+        return String.format(
+                "%d invocations, %d lock timeouts, queue wait avg/max %.1f/%.1f ms, execution avg/max %.1f/%.1f ms",
+                count, timeouts.get(), averageWait / 1e6, maxWaitNanos.get() / 1e6, averageExecution / 1e6,
+                maxExecutionNanos.get() / 1e6);
+    }
+
+    /**
+     * Sets the name used when logging metrics, e.g. after the engine identifier is known.
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+}
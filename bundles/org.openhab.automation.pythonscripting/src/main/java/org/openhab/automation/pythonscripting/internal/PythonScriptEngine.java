@@ -19,7 +19,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
@@ -134,11 +133,16 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
     private final Lock lock = new ReentrantLock();
 
     private PythonScriptEngineConfiguration pythonScriptEngineConfiguration;
+    private final PythonScriptEngineFactory pythonScriptEngineFactory;
 
     private boolean initialized = false;
 
     private String engineIdentifier = "<uninitialized>";
 
+    // start of the first invocation and duration of the context initialization, used to report the script load time
+    private long loadStartedAt = 0;
+    private long initializationNanos = 0;
+
     private final ContextOutput scriptOutputStream;
     private final ContextOutput scriptErrorStream;
     private final ContextInput scriptInputStream;
@@ -155,6 +159,7 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
     public PythonScriptEngine(PythonScriptEngineConfiguration pythonScriptEngineConfiguration, Engine engine,
             PythonScriptEngineFactory pythonScriptEngineFactory) {
         this.pythonScriptEngineConfiguration = pythonScriptEngineConfiguration;
+        this.pythonScriptEngineFactory = pythonScriptEngineFactory;
 
         this.scriptOutputStream = new ContextOutput(new ThreadLocalContextOutputLogger(logger, Level.INFO));
         this.scriptErrorStream = new ContextOutput(new ThreadLocalContextOutputLogger(logger, Level.ERROR));
@@ -228,6 +233,7 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
             return;
         }
 
+        loadStartedAt = System.nanoTime();
         ScriptContext ctx = getContext();
 
         // these are added post-construction, so we need to fetch them late
@@ -298,13 +304,7 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
                                 engineIdentifier);
                     }
 
-                    String wrapperContent = new String(
-                            Files.readAllBytes(PythonScriptEngineConfiguration.PYTHON_WRAPPER_FILE_PATH));
-                    getPolyglotContext()
-                            .eval(Source
-                                    .newBuilder(GraalPythonScriptEngine.LANGUAGE_ID, wrapperContent,
-                                            PythonScriptEngineConfiguration.PYTHON_WRAPPER_FILE_PATH.toString())
-                                    .build());
+                    getPolyglotContext().eval(pythonScriptEngineFactory.getWrapperSource());
 
                     // inject scope, Registry and logger
                     if (pythonScriptEngineConfiguration.isInjectionEnabledForAllScripts()
@@ -344,6 +344,7 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
             }
         }
 
+        initializationNanos = System.nanoTime() - loadStartedAt;
         initialized = true;
     }
 
@@ -359,6 +360,7 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
 
     @Override
     protected @Nullable Object afterInvocation(@Nullable Object obj) {
+        recordLoadTime();
         lock.unlock();
         logger.debug("Lock released after invocation for engine '{}'.", this.engineIdentifier);
         return obj;
@@ -382,6 +384,7 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
                     this.engineIdentifier, stringifyThrowable(cause));
         }
 
+        recordLoadTime();
         lock.unlock();
         logger.debug("Lock cleaned after an exception for engine '{}'.", this.engineIdentifier);
         return e;
@@ -443,9 +446,25 @@ public class PythonScriptEngine extends InvocationInterceptingPythonScriptEngine
             }
         }
 
+        pythonScriptEngineFactory.removeLoadTime(this.engineIdentifier);
         lock.unlock();
     }
 
+    /**
+     * Reports the load time of the script after its first invocation, i.e. the evaluation of the script file or the
+     * compilation of a UI based script.
+     */
+    private void recordLoadTime() {
+        if (loadStartedAt == 0) {
+            return;
+        }
+        Duration total = Duration.ofNanos(System.nanoTime() - loadStartedAt);
+        loadStartedAt = 0;
+        logger.debug("Engine '{}' loaded in {} ms.", this.engineIdentifier, total.toMillis());
+        pythonScriptEngineFactory.recordLoadTime(new ScriptLoadTime(this.engineIdentifier, Instant.now(),
+                Duration.ofNanos(initializationNanos), total));
+    }
+
     /**
      * Initializes the logger.
      * This cannot be done on script engine creation because the context variables are not yet initialized.
@@ -12,23 +12,33 @@
  */
 package org.openhab.automation.pythonscripting.internal;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.Language;
+import org.graalvm.polyglot.Source;
 import org.openhab.automation.pythonscripting.internal.fs.PythonDependencyTracker;
 import org.openhab.automation.pythonscripting.internal.scriptengine.graal.GraalPythonScriptEngine;
 import org.openhab.automation.pythonscripting.internal.scriptengine.graal.GraalPythonScriptEngine.ScriptEngineProvider;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.osgi.framework.Constants;
@@ -62,6 +72,13 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory, ScriptEng
     private final PythonScriptEngineConfiguration configuration;
 
     private static final String PYTHON_OPTION_ENGINE_WARNINTERPRETERONLY = "engine.WarnInterpreterOnly";
+    private static final String WARMUP_ENGINE_IDENTIFIER = "pythonscripting-warmup";
+
+    private final Map<String, ScriptLoadTime> loadTimes = new ConcurrentHashMap<>();
+    private @Nullable Future<?> warmUpJob;
+
+    private @Nullable Source wrapperSource;
+    private @Nullable FileTime wrapperLastModified;
 
     /**
      * Shared Polyglot {@link Engine} instance to be used by all instances of {@link PythonScriptEngine}.
@@ -114,6 +131,27 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory, ScriptEng
         if (getLanguage() == null) {
             logger.error(
                     "Graal Python language not initialized. Restart openHAB to initialize available Graal languages properly.");
+        } else {
+            warmUpJob = ThreadPoolManager.getScheduledPool("automation").submit(this::warmUp);
+        }
+    }
+
+    /**
+     * Initializes the shared {@link Engine} in the background by evaluating a script in a throwaway context.
+     *
+     * The Python core modules and the site packages are parsed only once per engine and shared by all contexts, so
+     * doing this before the script files are loaded takes the language initialization off the first script.
+     */
+    private void warmUp() {
+        long start = System.nanoTime();
+        try (PythonScriptEngine scriptEngine = new PythonScriptEngine(configuration, engine, this)) {
+            scriptEngine.getContext().setAttribute(ScriptEngineFactory.CONTEXT_KEY_ENGINE_IDENTIFIER,
+                    WARMUP_ENGINE_IDENTIFIER, ScriptContext.ENGINE_SCOPE);
+            scriptEngine.eval("import sys");
+            logger.debug("Warmed up Graal Python engine in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (ScriptException | RuntimeException e) {
+            logger.debug("Failed to warm up Graal Python engine: {}", e.getMessage());
         }
     }
 
@@ -125,6 +163,12 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory, ScriptEng
     @Deactivate
     public void cleanup() {
         logger.debug("Unloading PythonScriptEngineFactory");
+        Future<?> warmUpJob = this.warmUpJob;
+        if (warmUpJob != null) {
+            warmUpJob.cancel(false);
+            this.warmUpJob = null;
+        }
+        loadTimes.clear();
     }
 
     @Modified
@@ -178,6 +222,48 @@ public class PythonScriptEngineFactory implements ScriptEngineFactory, ScriptEng
         return this.configuration;
     }
 
+    /**
+     * Gets the {@link Source} of the helper lib import wrapper.
+     *
+     * The source is only read again if the file was modified, so all contexts evaluate the same source instance and
+     * the shared engine can reuse the parsed code.
+     *
+     * @return the source of the import wrapper
+     * @throws IOException if the wrapper file can't be read
+     */
+    public synchronized Source getWrapperSource() throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(PythonScriptEngineConfiguration.PYTHON_WRAPPER_FILE_PATH);
+        Source wrapperSource = this.wrapperSource;
+        if (wrapperSource == null || !lastModified.equals(wrapperLastModified)) {
+            String wrapperContent = new String(
+                    Files.readAllBytes(PythonScriptEngineConfiguration.PYTHON_WRAPPER_FILE_PATH));
+            wrapperSource = Source.newBuilder(GraalPythonScriptEngine.LANGUAGE_ID, wrapperContent,
+                    PythonScriptEngineConfiguration.PYTHON_WRAPPER_FILE_PATH.toString()).build();
+            this.wrapperSource = wrapperSource;
+            this.wrapperLastModified = lastModified;
+        }
+        return wrapperSource;
+    }
+
+    void recordLoadTime(ScriptLoadTime loadTime) {
+        if (!WARMUP_ENGINE_IDENTIFIER.equals(loadTime.engineIdentifier())) {
+            loadTimes.put(loadTime.engineIdentifier(), loadTime);
+        }
+    }
+
+    void removeLoadTime(String engineIdentifier) {
+        loadTimes.remove(engineIdentifier);
+    }
+
+    /**
+     * Gets the load times of all active scripts.
+     *
+     * @return the load times of all active scripts
+     */
+    public Collection<ScriptLoadTime> getLoadTimes() {
+        return loadTimes.values();
+    }
+
     /**
      * Gets the Graal language of {@link PythonScriptEngine}.
      *
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.pythonscripting.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Load time of a script, recorded on the first invocation of its {@link PythonScriptEngine}.
+ *
+ * @param engineIdentifier identifier of the script engine
+ * @param loadedAt when the script finished loading
+ * @param initialization time spent to initialize the polyglot context and the helper lib wrapper
+ * @param total time spent from the start of the first invocation until the script was evaluated
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public record ScriptLoadTime(String engineIdentifier, Instant loadedAt, Duration initialization, Duration total) {
+}
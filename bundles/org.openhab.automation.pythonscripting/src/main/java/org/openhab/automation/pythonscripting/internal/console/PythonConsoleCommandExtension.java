@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.UUID;
@@ -30,6 +31,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.automation.pythonscripting.internal.PythonScriptEngine;
 import org.openhab.automation.pythonscripting.internal.PythonScriptEngineConfiguration;
 import org.openhab.automation.pythonscripting.internal.PythonScriptEngineFactory;
+import org.openhab.automation.pythonscripting.internal.ScriptLoadTime;
 import org.openhab.automation.pythonscripting.internal.console.handler.InfoCmd;
 import org.openhab.automation.pythonscripting.internal.console.handler.TypingCmd;
 import org.openhab.automation.pythonscripting.internal.console.handler.UpdateCmd;
@@ -56,6 +58,7 @@ public class PythonConsoleCommandExtension extends AbstractConsoleCommandExtensi
     private static final String INFO = "info";
     private static final String CONSOLE = "console";
     private static final String TYPING = "typing";
+    private static final String LOAD_TIMES = "loadtimes";
     private static final String PIP = "pip";
     private static final String PIP_INSTALL = "install";
     private static final String PIP_UNINSTALL = "uninstall";
@@ -66,7 +69,7 @@ public class PythonConsoleCommandExtension extends AbstractConsoleCommandExtensi
     private static final String UPDATE_CHECK = "check";
     private static final String UPDATE_INSTALL = "install";
 
-    private static final List<String> COMMANDS = List.of(INFO, CONSOLE, UPDATE, TYPING);
+    private static final List<String> COMMANDS = List.of(INFO, CONSOLE, UPDATE, TYPING, LOAD_TIMES);
     private static final List<String> UPDATE_COMMANDS = List.of(UPDATE_LIST, UPDATE_CHECK, UPDATE_INSTALL);
     private static final List<String> PIP_COMMANDS = List.of(PIP_INSTALL, PIP_UNINSTALL, PIP_SHOW, PIP_LIST);
 
@@ -105,6 +108,7 @@ public class PythonConsoleCommandExtension extends AbstractConsoleCommandExtensi
             usages.add(getPipUsage());
         }
         usages.add(buildCommandUsage(TYPING, "create type hint stub files"));
+        usages.add(buildCommandUsage(LOAD_TIMES, "lists the load times of the active scripts"));
         return usages;
     }
 
@@ -158,6 +162,9 @@ public class PythonConsoleCommandExtension extends AbstractConsoleCommandExtensi
                 case TYPING:
                     executeTyping(console);
                     break;
+                case LOAD_TIMES:
+                    loadTimes(console);
+                    break;
                 case PIP:
                     if (pythonScriptEngineConfiguration.isVEnvEnabled()) {
                         executePip(console, Arrays.copyOfRange(args, 1, args.length));
@@ -178,6 +185,20 @@ public class PythonConsoleCommandExtension extends AbstractConsoleCommandExtensi
                 .show(configDescriptionRegistry);
     }
 
+    private void loadTimes(Console console) {
+        List<ScriptLoadTime> loadTimes = pythonScriptEngineFactory.getLoadTimes().stream()
+                .sorted(Comparator.comparing(ScriptLoadTime::total).reversed()).toList();
+        if (loadTimes.isEmpty()) {
+            console.println("No scripts loaded.");
+            return;
+        }
+        console.println(String.format("%10s %10s  %s", "Total ms", "Init ms", "Script"));
+        for (ScriptLoadTime loadTime : loadTimes) {
+            console.println(String.format("%10d %10d  %s", loadTime.total().toMillis(),
+                    loadTime.initialization().toMillis(), loadTime.engineIdentifier()));
+        }
+    }
+
     private void startConsole(Console console, String[] args) {
         final String startInteractiveSessionCode = """
                 import readline # optional, will allow Up/Down/History in the console
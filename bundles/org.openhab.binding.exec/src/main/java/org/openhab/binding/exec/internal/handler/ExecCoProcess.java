@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal.handler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived child process which is sent requests on stdin and answers with one line on stdout per request. All
+ * lines written by the process on stdout and stderr are passed to the consumers as soon as they are received, also
+ * if they are not a response to a request.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoProcess {
+    // time to wait for the process to terminate after it was asked to
+    private static final long TERMINATION_TIMEOUT_MS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ExecCoProcess.class);
+    private final Process process;
+    private final Writer stdin;
+    private final Consumer<String> outputConsumer;
+    private final IntConsumer exitConsumer;
+    private final Queue<CompletableFuture<String>> pendingRequests = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    /**
+     * Starts the process.
+     *
+     * @param cmdArray the command and its arguments
+     * @param charset the {@link Charset} used for the communication with the process
+     * @param threadName the prefix of the names of the threads reading the output of the process
+     * @param outputConsumer receives every line the process writes to stdout
+     * @param errorConsumer receives every line the process writes to stderr
+     * @param exitConsumer receives the exit value if the process terminates before it is closed
+     * @throws IOException if the process could not be started
+     */
+    public ExecCoProcess(String[] cmdArray, Charset charset, String threadName, Consumer<String> outputConsumer,
+            Consumer<String> errorConsumer, IntConsumer exitConsumer) throws IOException {
+        this.process = Runtime.getRuntime().exec(cmdArray);
+        this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), charset));
+        this.outputConsumer = outputConsumer;
+        this.exitConsumer = exitConsumer;
+
+        new Thread(() -> readLines(process.getErrorStream(), charset, errorConsumer), threadName + "-stderr").start();
+        new Thread(() -> {
+            readLines(process.getInputStream(), charset, this::outputReceived);
+            terminated();
+        }, threadName + "-stdout").start();
+    }
+
+    /**
+     * Sends a request to the process.
+     *
+     * @param line the request, without line break
+     * @return the future which is completed with the next line the process writes to stdout after all responses to
+     *         earlier requests
+     */
+    public synchronized CompletableFuture<String> request(String line) {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        if (!isAlive()) {
+            response.completeExceptionally(new IOException("Process is not running"));
+            return response;
+        }
+        pendingRequests.add(response);
+        try {
+            stdin.write(line);
+            stdin.write('\n');
+            stdin.flush();
+        } catch (IOException e) {
+            pendingRequests.remove(response);
+            response.completeExceptionally(e);
+        }
+        return response;
+    }
+
+    public boolean isAlive() {
+        return !closed && process.isAlive();
+    }
+
+    /**
+     * Forcibly terminates the process, e.g. because it doesn't respond anymore. The exit consumer is notified.
+     */
+    public void kill() {
+        process.destroyForcibly();
+    }
+
+    /**
+     * Terminates the process. The exit consumer is not notified.
+     */
+    public void close() {
+        closed = true;
+        try {
+            stdin.close();
+        } catch (IOException e) {
+            logger.trace("Failed to close stdin of the process: {}", e.getMessage());
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(TERMINATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        failPendingRequests();
+    }
+
+    private void outputReceived(String line) {
+        outputConsumer.accept(line);
+        CompletableFuture<String> response = pendingRequests.poll();
+        if (response != null) {
+            response.complete(line);
+        }
+    }
+
+    private void terminated() {
+        failPendingRequests();
+        if (closed) {
+            return;
+        }
+        try {
+            // stdout may be closed before the process terminates
+            if (!process.waitFor(TERMINATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!closed) {
+            exitConsumer.accept(process.exitValue());
+        }
+    }
+
+    private void failPendingRequests() {
+        CompletableFuture<String> response;
+        while ((response = pendingRequests.poll()) != null) {
+            response.completeExceptionally(new IOException("Process terminated"));
+        }
+    }
+
+    private void readLines(InputStream inputStream, Charset charset, Consumer<String> consumer) {
+        try (InputStreamReader isr = new InputStreamReader(inputStream, charset);
+                BufferedReader br = new BufferedReader(isr)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                consumer.accept(line);
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                logger.debug("An exception occurred while reading the output of the process: '{}'", e.getMessage());
+            }
+        }
+    }
+}
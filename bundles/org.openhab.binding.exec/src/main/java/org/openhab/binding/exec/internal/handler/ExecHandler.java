@@ -22,6 +22,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
@@ -47,6 +49,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.thing.binding.generic.ChannelTransformation;
 import org.openhab.core.types.Command;
@@ -62,6 +65,7 @@ import org.slf4j.LoggerFactory;
  * @author Karel Goderis - Initial contribution
  * @author Constantin Piber - Added better argument support (delimiter and pass to shell)
  * @author Jan N. Klug - Add command whitelist check
+ * @author Contributors to the openHAB project - Add persistent mode
  */
 @NonNullByDefault
 public class ExecHandler extends BaseThingHandler {
@@ -89,6 +93,11 @@ public class ExecHandler extends BaseThingHandler {
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
     public static final String CHARSET = "charset";
+    public static final String PERSISTENT = "persistent";
+
+    // delays for restarting the process in persistent mode, doubled after each failed start
+    private static final int MIN_RESTART_DELAY_S = 1;
+    private static final int MAX_RESTART_DELAY_S = 300;
 
     private ExecutorService executor;
     private @Nullable ScheduledFuture<?> scheduledTask;
@@ -99,6 +108,13 @@ public class ExecHandler extends BaseThingHandler {
 
     private @Nullable ChannelTransformation channelTransformation;
 
+    private volatile boolean persistent;
+    /* All access must be guarded by "this" */
+    private @Nullable ExecCoProcess coProcess;
+    private Instant coProcessStart = Instant.EPOCH;
+    private int restartAttempts;
+    private @Nullable ScheduledFuture<?> restartJob;
+
     public ExecHandler(Thing thing, ExecWhitelistWatchService execWhitelistWatchService) {
         super(thing);
         this.execWhitelistWatchService = execWhitelistWatchService;
@@ -145,11 +161,21 @@ public class ExecHandler extends BaseThingHandler {
             }
         }
 
-        updateStatus(ThingStatus.ONLINE);
+        if (Boolean.TRUE.equals(getConfig().get(PERSISTENT))) {
+            synchronized (this) {
+                restartAttempts = 0;
+            }
+            persistent = true;
+            updateStatus(ThingStatus.UNKNOWN);
+            executor.execute(this::startCoProcess);
+        } else {
+            updateStatus(ThingStatus.ONLINE);
+        }
     }
 
     @Override
     public void dispose() {
+        stopCoProcess();
         Future<?> task = scheduledTask;
         if (task != null && !task.isCancelled()) {
             task.cancel(true);
@@ -168,29 +194,19 @@ public class ExecHandler extends BaseThingHandler {
     }
 
     public void execute() {
+        if (persistent) {
+            sendRequest();
+            return;
+        }
+
         String commandLine = (String) getConfig().get(COMMAND);
         if (!execWhitelistWatchService.isWhitelisted(commandLine)) {
             logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
             return;
         }
 
-        int timeOut = 60000;
-        if ((getConfig().get(TIME_OUT)) != null) {
-            timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
-        }
-
-        Charset charset = null;
-        String charsetValue = (String) getConfig().get(CHARSET);
-        if (charsetValue != null && !charsetValue.isBlank()) {
-            try {
-                charset = Charset.forName(charsetValue);
-            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
-                logger.warn("Invalid or unsupported character encoding '{}', falling back to UTF-8", charsetValue);
-            }
-        }
-        if (charset == null) {
-            charset = StandardCharsets.UTF_8;
-        }
+        int timeOut = getTimeout();
+        Charset charset = getCharset();
 
         if (commandLine != null && !commandLine.isEmpty()) {
             updateState(RUN, OnOffType.ON);
@@ -213,47 +229,9 @@ public class ExecHandler extends BaseThingHandler {
                 return;
             }
 
-            String[] cmdArray;
-            String[] shell;
-            if (commandLine.contains(CMD_LINE_DELIMITER)) {
-                logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
-                try {
-                    cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-                } catch (PatternSyntaxException e) {
-                    logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    updateState(STDOUT, new StringType());
-                    updateState(STDERR, new StringType(e.getMessage()));
-                    return;
-                }
-            } else {
-                // Invoke shell with 'c' option and pass string
-                logger.debug("Passing to shell for parsing command.");
-                switch (getOperatingSystemType()) {
-                    case WINDOWS:
-                        shell = SHELL_WINDOWS;
-                        logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "/c", commandLine);
-                        break;
-                    case LINUX:
-                    case MAC:
-                    case BSD:
-                    case SOLARIS:
-                        // assume sh is present, should all be POSIX-compliant
-                        shell = SHELL_NIX;
-                        logger.debug("OS: *NIX ({})", getOperatingSystemName());
-                        cmdArray = createCmdArray(shell, "-c", commandLine);
-                        break;
-                    default:
-                        logger.debug("OS: Unknown ({})", getOperatingSystemName());
-                        logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
-                        updateState(RUN, OnOffType.OFF);
-                        updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
-                        updateState(STDOUT, new StringType());
-                        updateState(STDERR, new StringType("OS not supported, please manually split commands!"));
-                        return;
-                }
+            String[] cmdArray = splitCommandLine(commandLine);
+            if (cmdArray == null) {
+                return;
             }
 
             if (cmdArray.length == 0) {
@@ -352,6 +330,216 @@ public class ExecHandler extends BaseThingHandler {
         }
     }
 
+    private int getTimeout() {
+        int timeOut = 60000;
+        if ((getConfig().get(TIME_OUT)) != null) {
+            timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
+        }
+        return timeOut;
+    }
+
+    private Charset getCharset() {
+        String charsetValue = (String) getConfig().get(CHARSET);
+        if (charsetValue != null && !charsetValue.isBlank()) {
+            try {
+                return Charset.forName(charsetValue);
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                logger.warn("Invalid or unsupported character encoding '{}', falling back to UTF-8", charsetValue);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Starts the process of the persistent mode. If it cannot be started, a restart is scheduled.
+     */
+    private synchronized void startCoProcess() {
+        restartJob = null;
+        if (!persistent || coProcess != null) {
+            return;
+        }
+
+        String commandLine = (String) getConfig().get(COMMAND);
+        if (!execWhitelistWatchService.isWhitelisted(commandLine)) {
+            logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                    "Command is not contained in whitelist");
+            return;
+        }
+
+        // the input is sent to the running process, so only the date can be part of the command line
+        Date date = Calendar.getInstance().getTime();
+        String[] cmdArray;
+        try {
+            cmdArray = splitCommandLine(String.format(commandLine, date));
+        } catch (IllegalFormatException e) {
+            logger.warn("An exception occurred while formatting the command line '{}' with the current time '{}': {}",
+                    commandLine, date, e.getMessage());
+            cmdArray = null;
+        }
+        if (cmdArray == null || cmdArray.length == 0) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "Invalid command");
+            return;
+        }
+
+        try {
+            coProcess = new ExecCoProcess(cmdArray, getCharset(), "OH-binding-" + thing.getUID(),
+                    this::outputReceived, this::errorReceived, this::coProcessExited);
+            coProcessStart = Instant.now();
+            logger.debug("Started the process '{}'", Arrays.asList(cmdArray));
+            updateStatus(ThingStatus.ONLINE);
+        } catch (IOException e) {
+            logger.warn("An exception occurred while executing '{}' : '{}'", Arrays.asList(cmdArray), e.getMessage());
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+            scheduleRestart();
+        }
+    }
+
+    private synchronized void stopCoProcess() {
+        persistent = false;
+        ScheduledFuture<?> job = restartJob;
+        if (job != null) {
+            job.cancel(false);
+            restartJob = null;
+        }
+        ExecCoProcess process = coProcess;
+        if (process != null) {
+            process.close();
+            coProcess = null;
+        }
+    }
+
+    private synchronized void scheduleRestart() {
+        int delay = Math.min(MIN_RESTART_DELAY_S << Math.min(restartAttempts, 16), MAX_RESTART_DELAY_S);
+        restartAttempts++;
+        logger.debug("Restarting the process of thing {} in {} s", thing.getUID(), delay);
+        restartJob = scheduler.schedule(this::startCoProcess, delay, TimeUnit.SECONDS);
+    }
+
+    private synchronized void coProcessExited(int exitValue) {
+        if (!persistent) {
+            return;
+        }
+        coProcess = null;
+        logger.warn("The process ('{}') terminated with exit value {}", getConfig().get(COMMAND), exitValue);
+        updateState(RUN, OnOffType.OFF);
+        updateState(EXIT, new DecimalType(exitValue));
+        // don't delay the restart of a process which was running fine for a while
+        if (Duration.between(coProcessStart, Instant.now()).getSeconds() >= MAX_RESTART_DELAY_S) {
+            restartAttempts = 0;
+        }
+        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                "Process terminated with exit value " + exitValue);
+        scheduleRestart();
+    }
+
+    /**
+     * Sends the last input as request to the process of the persistent mode. A process which doesn't respond within
+     * the timeout is killed and restarted.
+     */
+    private void sendRequest() {
+        ExecCoProcess process;
+        synchronized (this) {
+            process = coProcess;
+        }
+        if (process == null || !process.isAlive()) {
+            logger.debug("The process of thing {} is not running, skipping the request", thing.getUID());
+            return;
+        }
+
+        int timeOut = getTimeout();
+        String input = lastInput;
+        // line breaks would be taken as separate requests
+        String request = input != null ? input.replaceAll("\\R", " ") : "";
+        updateState(RUN, OnOffType.ON);
+        process.request(request).orTimeout(timeOut, TimeUnit.MILLISECONDS).whenComplete((response, e) -> {
+            updateState(RUN, OnOffType.OFF);
+            if (e instanceof TimeoutException) {
+                logger.warn("Forcibly terminating the process ('{}') without response after a timeout of {} ms",
+                        getConfig().get(COMMAND), timeOut);
+                process.kill();
+            } else if (e != null) {
+                logger.debug("The request to the process ('{}') failed: {}", getConfig().get(COMMAND),
+                        e.getMessage());
+            } else {
+                synchronized (this) {
+                    restartAttempts = 0;
+                }
+            }
+        });
+    }
+
+    private void outputReceived(String line) {
+        logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+        String transformedLine = transform(line);
+        updateState(STDOUT, new StringType(transformedLine));
+        updateState(OUTPUT, new StringType(transformedLine));
+        updateState(LAST_EXECUTION, new DateTimeType());
+    }
+
+    private void errorReceived(String line) {
+        logger.debug("Exec [{}]: '{}'", "ERROR", line);
+        updateState(STDERR, new StringType(transform(line)));
+    }
+
+    private String transform(String value) {
+        ChannelTransformation transformation = channelTransformation;
+        return transformation != null ? transformation.apply(value).orElse(value) : value;
+    }
+
+    /**
+     * Splits the command line into the command and its arguments, either by {@link #CMD_LINE_DELIMITER} or by passing
+     * it to the shell.
+     *
+     * @param commandLine the formatted command line
+     * @return the command array, or null if the command line cannot be split
+     */
+    private String @Nullable [] splitCommandLine(String commandLine) {
+        String[] cmdArray;
+        String[] shell;
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            logger.debug("Splitting by '{}'", CMD_LINE_DELIMITER);
+            try {
+                cmdArray = commandLine.split(CMD_LINE_DELIMITER);
+            } catch (PatternSyntaxException e) {
+                logger.warn("An exception occurred while splitting '{}' : '{}'", commandLine, e.getMessage());
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                updateState(STDOUT, new StringType());
+                updateState(STDERR, new StringType(e.getMessage()));
+                return null;
+            }
+        } else {
+            // Invoke shell with 'c' option and pass string
+            logger.debug("Passing to shell for parsing command.");
+            switch (getOperatingSystemType()) {
+                case WINDOWS:
+                    shell = SHELL_WINDOWS;
+                    logger.debug("OS: WINDOWS ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "/c", commandLine);
+                    break;
+                case LINUX:
+                case MAC:
+                case BSD:
+                case SOLARIS:
+                    // assume sh is present, should all be POSIX-compliant
+                    shell = SHELL_NIX;
+                    logger.debug("OS: *NIX ({})", getOperatingSystemName());
+                    cmdArray = createCmdArray(shell, "-c", commandLine);
+                    break;
+                default:
+                    logger.debug("OS: Unknown ({})", getOperatingSystemName());
+                    logger.warn("OS {} not supported, please manually split commands!", getOperatingSystemName());
+                    updateState(RUN, OnOffType.OFF);
+                    updateState(OUTPUT, new StringType("OS not supported, please manually split commands!"));
+                    updateState(STDOUT, new StringType());
+                    updateState(STDERR, new StringType("OS not supported, please manually split commands!"));
+                    return null;
+            }
+        }
+        return cmdArray;
+    }
+
     /**
      * Transforms the command string into an array.
      * Either invokes the shell and passes using the "c" option
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.folderwatcher.internal.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ListingIndex} class contains the files known to a watcher. It is persisted in the listing file, so that
+ * files are not announced again after a restart.
+ *
+ * New files are appended to the listing file. Removed files are only dropped from the file when it is rewritten,
+ * which is done as soon as it contains more removed than known files. If the listing file can't be written, the
+ * index is kept in memory only.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ListingIndex {
+    // don't rewrite small listing files for every few removed files
+    private static final int MIN_REWRITE_ENTRIES = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ListingIndex.class);
+    private final File listingFile;
+    private final String watchDir;
+
+    /* All access must be guarded by "this" */
+    private Set<String> entries;
+    // files added individually since the last update, which may have been created after the listing was taken
+    private final Set<String> addedEntries = new HashSet<>();
+    private int persistedEntries;
+
+    /**
+     * Loads the index from the listing file. An index of another watch directory is discarded.
+     *
+     * @param listingFile the listing file
+     * @param watchDir the watched directory, stored in the first line of the listing file
+     * @throws IOException if the listing file can't be read or written
+     */
+    public ListingIndex(File listingFile, String watchDir) throws IOException {
+        this.listingFile = listingFile;
+        this.watchDir = watchDir;
+        List<String> storedListing = WatcherCommon.initStorage(listingFile, watchDir);
+        // the first line contains the watch directory
+        entries = new HashSet<>(storedListing.subList(Math.min(1, storedListing.size()), storedListing.size()));
+        persistedEntries = Math.max(storedListing.size() - 1, 0);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Replaces the index by the current listing. Files added by {@link #add(String)} since the last update are kept,
+     * as they may have been created after the listing was taken.
+     *
+     * @param currentListing all files found by the last listing
+     * @return the files of the current listing which are not in the index, in the order of the current listing
+     */
+    public synchronized List<String> update(Collection<String> currentListing) {
+        List<String> newFiles = new ArrayList<>();
+        Set<String> currentEntries = new HashSet<>(currentListing);
+        for (String file : currentListing) {
+            if (!entries.contains(file)) {
+                newFiles.add(file);
+            }
+        }
+        currentEntries.addAll(addedEntries);
+        addedEntries.clear();
+        entries = currentEntries;
+
+        if (persistedEntries + newFiles.size() - entries.size() > Math.max(entries.size(), MIN_REWRITE_ENTRIES)) {
+            logger.debug("Dropping {} removed entries from listing file",
+                    persistedEntries + newFiles.size() - entries.size());
+            try {
+                WatcherCommon.rewriteListing(entries, listingFile, watchDir);
+                persistedEntries = entries.size();
+                return newFiles;
+            } catch (IOException e) {
+                logger.debug("Can't rewrite listing file: {}", e.getMessage());
+                // don't retry with every update, but only once as many entries have been removed again
+                persistedEntries = entries.size() - newFiles.size();
+            }
+        }
+        if (!newFiles.isEmpty()) {
+            try {
+                WatcherCommon.saveNewListing(newFiles, listingFile);
+                persistedEntries += newFiles.size();
+            } catch (IOException e) {
+                logger.debug("Can't save new listing into file: {}", e.getMessage());
+            }
+        }
+        return newFiles;
+    }
+
+    /**
+     * Adds a single file to the index.
+     *
+     * @param file the file
+     * @return true if the file was not yet in the index
+     */
+    public synchronized boolean add(String file) {
+        if (!entries.add(file)) {
+            return false;
+        }
+        addedEntries.add(file);
+        try {
+            WatcherCommon.saveNewListing(List.of(file), listingFile);
+            persistedEntries++;
+        } catch (IOException e) {
+            logger.debug("Can't save new listing into file: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Removes a single file from the index. It stays in the listing file until the file is rewritten by
+     * {@link #update(Collection)}.
+     *
+     * @param file the file
+     */
+    public synchronized void remove(String file) {
+        entries.remove(file);
+        addedEntries.remove(file);
+    }
+}
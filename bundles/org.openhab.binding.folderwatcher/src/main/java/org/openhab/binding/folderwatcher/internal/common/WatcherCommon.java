@@ -16,7 +16,10 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,6 +30,7 @@ import org.slf4j.LoggerFactory;
  * The {@link WatcherCommon} class contains commonly used methods.
  *
  * @author Alexandr Salamatov - Initial contribution
+ * @author Contributors to the openHAB project - Rewrite listing files
  */
 @NonNullByDefault
 public class WatcherCommon {
@@ -78,4 +82,31 @@ public class WatcherCommon {
             logger.debug("Successfully saved {} entries to listing file", newList.size());
         }
     }
+
+    public static void rewriteListing(Collection<String> listing, File listingFile, String watchDir)
+            throws IOException {
+        logger.debug("Rewriting listing file: {} with {} entries", listingFile.getAbsolutePath(), listing.size());
+        File tempFile = new File(listingFile.getPath() + ".tmp");
+        try {
+            try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(tempFile))) {
+                fileWriter.write(watchDir);
+                fileWriter.newLine();
+                for (String file : listing) {
+                    fileWriter.write(file);
+                    fileWriter.newLine();
+                }
+            }
+            try {
+                Files.move(tempFile.toPath(), listingFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                logger.debug("Atomic move not supported, replacing listing file non-atomically");
+                Files.move(tempFile.toPath(), listingFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // only left over if the listing file could not be replaced
+            tempFile.delete();
+        }
+        logger.debug("Successfully rewrote listing file");
+    }
 }
@@ -23,7 +23,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.folderwatcher.internal.api.AzureActions;
-import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.config.AzureBlobWatcherConfiguration;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.io.net.http.HttpClientFactory;
@@ -42,6 +42,7 @@ import org.slf4j.LoggerFactory;
  * sent to one of the channels.
  *
  * @author Alexandr Salamatov - Initial contribution
+ * @author Contributors to the openHAB project - Use hash based listing index
  */
 @NonNullByDefault
 public class AzureBlobWatcherHandler extends BaseThingHandler {
@@ -50,7 +51,7 @@ public class AzureBlobWatcherHandler extends BaseThingHandler {
     private File currentBlobListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "AzureBlob"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousBlobListing = new ArrayList<>();
+    private @Nullable ListingIndex blobListingIndex;
     private HttpClientFactory httpClientFactory;
     private @Nullable AzureActions azure;
 
@@ -104,13 +105,15 @@ public class AzureBlobWatcherHandler extends BaseThingHandler {
     private boolean refreshAzureBlobInformation() {
         logger.debug("Refreshing Azure blob container information for {}/{}", config.azureAccountName,
                 config.azureContainerName);
-        if (previousBlobListing.isEmpty()) {
+        ListingIndex blobListingIndex = this.blobListingIndex;
+        if (blobListingIndex == null) {
             try {
                 logger.debug("Initializing Azure listing file for account: {}, container: {}", config.azureAccountName,
                         config.azureContainerName);
-                previousBlobListing = WatcherCommon.initStorage(currentBlobListingFile,
+                blobListingIndex = new ListingIndex(currentBlobListingFile,
                         config.azureAccountName + "-" + config.azureContainerName);
-                logger.debug("Loaded {} previous Azure files from storage", previousBlobListing.size());
+                this.blobListingIndex = blobListingIndex;
+                logger.debug("Loaded {} previous Azure files from storage", blobListingIndex.size());
             } catch (Exception e) {
                 logger.debug("Exception initializing Azure listing file: {}", e.getMessage());
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
@@ -129,21 +132,15 @@ public class AzureBlobWatcherHandler extends BaseThingHandler {
             currentBlobListing = azure.listContainer(config.containerPath);
             logger.debug("Azure container scan found {} total files", currentBlobListing.size());
             updateStatus(ThingStatus.ONLINE);
-            List<String> difBlobListing = new ArrayList<>(currentBlobListing);
-            difBlobListing.removeAll(previousBlobListing);
+            int previousSize = blobListingIndex.size();
+            List<String> difBlobListing = blobListingIndex.update(currentBlobListing);
             logger.debug("Detected {} new Azure files since last refresh", difBlobListing.size());
             difBlobListing.forEach(file -> {
                 logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
                 triggerChannel(CHANNEL_NEWFILE, file);
             });
-
-            if (!difBlobListing.isEmpty()) {
-                logger.debug("Saving {} new files to listing file", difBlobListing.size());
-                WatcherCommon.saveNewListing(difBlobListing, currentBlobListingFile);
-            }
-            logger.debug("Azure refresh completed, updated previous listing from {} to {} files",
-                    previousBlobListing.size(), currentBlobListing.size());
-            previousBlobListing = new ArrayList<>(currentBlobListing);
+            logger.debug("Azure refresh completed, updated previous listing from {} to {} files", previousSize,
+                    currentBlobListing.size());
         } catch (Exception e) {
             logger.debug("Exception connecting to Azure container: {}", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
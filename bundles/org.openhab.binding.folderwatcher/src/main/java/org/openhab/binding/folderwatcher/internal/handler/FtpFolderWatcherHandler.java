@@ -29,7 +29,7 @@ import org.apache.commons.net.ftp.FTPReply;
 import org.apache.commons.net.ftp.FTPSClient;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.config.FtpFolderWatcherConfiguration;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.thing.ChannelUID;
@@ -47,6 +47,7 @@ import org.slf4j.LoggerFactory;
  * sent to one of the channels.
  *
  * @author Alexandr Salamatov - Initial contribution
+ * @author Contributors to the openHAB project - Use hash based listing index
  */
 @NonNullByDefault
 public class FtpFolderWatcherHandler extends BaseThingHandler {
@@ -55,7 +56,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
     private @Nullable File currentFtpListingFile;
     private @Nullable ScheduledFuture<?> executionJob, initJob;
     private FTPClient ftp = new FTPClient();
-    private List<String> previousFtpListing = new ArrayList<>();
+    private @Nullable ListingIndex ftpListingIndex;
 
     public FtpFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -96,7 +97,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                 + thing.getUID().getAsString().replace(':', '_') + ".data");
         try {
             this.currentFtpListingFile = currentFtpListingFile;
-            previousFtpListing = WatcherCommon.initStorage(currentFtpListingFile, config.ftpAddress + config.ftpDir);
+            ftpListingIndex = new ListingIndex(currentFtpListingFile, config.ftpAddress + config.ftpDir);
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             logger.debug("Can't write file {}, error message {}", currentFtpListingFile, e.getMessage());
@@ -273,7 +274,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
     private void refreshFTPFolderInformation() {
         logger.debug("Refreshing FTP folder information for {}", config.ftpAddress + config.ftpDir);
         String ftpRootDir = config.ftpDir;
-        final File currentFtpListingFile = this.currentFtpListingFile;
+        final ListingIndex ftpListingIndex = this.ftpListingIndex;
         if (ftp.isConnected()) {
             logger.debug("FTP connection active, proceeding with directory refresh");
             ftp.enterLocalPassiveMode();
@@ -287,24 +288,18 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                 List<String> currentFtpListing = new ArrayList<>();
                 listDirectory(ftp, ftpRootDir, config.listRecursiveFtp, currentFtpListing);
                 logger.debug("FTP directory scan found {} total files", currentFtpListing.size());
-                List<String> diffFtpListing = new ArrayList<>(currentFtpListing);
-                diffFtpListing.removeAll(previousFtpListing);
+                if (ftpListingIndex == null) {
+                    return;
+                }
+                int previousSize = ftpListingIndex.size();
+                List<String> diffFtpListing = ftpListingIndex.update(currentFtpListing);
                 logger.debug("Detected {} new FTP files since last refresh", diffFtpListing.size());
                 diffFtpListing.forEach(file -> {
                     logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
                     triggerChannel(CHANNEL_NEWFILE, file);
                 });
-                if (!diffFtpListing.isEmpty() && currentFtpListingFile != null) {
-                    try {
-                        logger.debug("Saving {} new files to listing file", diffFtpListing.size());
-                        WatcherCommon.saveNewListing(diffFtpListing, currentFtpListingFile);
-                    } catch (IOException e2) {
-                        logger.debug("Can't save new listing into file: {}", e2.getMessage());
-                    }
-                }
-                logger.debug("FTP refresh completed, updated previous listing from {} to {} files",
-                        previousFtpListing.size(), currentFtpListing.size());
-                previousFtpListing = new ArrayList<>(currentFtpListing);
+                logger.debug("FTP refresh completed, updated previous listing from {} to {} files", previousSize,
+                        currentFtpListing.size());
             } catch (IOException e) {
                 logger.debug("IOException during FTP directory listing: {}", e.getMessage(), e);
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
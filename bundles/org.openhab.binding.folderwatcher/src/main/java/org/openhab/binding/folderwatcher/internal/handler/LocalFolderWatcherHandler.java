@@ -12,24 +12,34 @@
  */
 package org.openhab.binding.folderwatcher.internal.handler;
 
+import static java.nio.file.StandardWatchEventKinds.*;
 import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingConstants.CHANNEL_NEWFILE;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.config.LocalFolderWatcherConfiguration;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.thing.ChannelUID;
@@ -47,15 +57,24 @@ import org.slf4j.LoggerFactory;
  * sent to one of the channels.
  *
  * @author Alexandr Salamatov - Initial contribution
+ * @author Contributors to the openHAB project - Watch folder changes, use hash based listing index
  */
 @NonNullByDefault
 public class LocalFolderWatcherHandler extends BaseThingHandler {
+    // created files are announced once their size hasn't changed for this delay, as they may still be written
+    private static final long SETTLE_DELAY_MS = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(LocalFolderWatcherHandler.class);
     private LocalFolderWatcherConfiguration config = new LocalFolderWatcherConfiguration();
     private File currentLocalListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousLocalListing = new ArrayList<>();
+    private @Nullable ListingIndex localListingIndex;
+    private @Nullable WatchService watchService;
+    /* All access must be guarded by "pendingFiles" */
+    private final Map<Path, Long> pendingFiles = new HashMap<>();
+    private @Nullable ScheduledFuture<?> pendingFilesJob;
+    private boolean disposed;
 
     public LocalFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -75,6 +94,9 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
         logger.debug("Initializing Local Folder Watcher handler for {} with directory: {}, poll interval: {}s",
                 thing.getUID(), config.localDir, config.pollIntervalLocal);
         updateStatus(ThingStatus.UNKNOWN);
+        synchronized (pendingFiles) {
+            disposed = false;
+        }
 
         if (!Files.isDirectory(Paths.get(config.localDir))) {
             logger.debug("Local directory is not valid: {}", config.localDir);
@@ -83,8 +105,9 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
         }
         try {
             logger.debug("Initializing local listing file for directory: {}", config.localDir);
-            previousLocalListing = WatcherCommon.initStorage(currentLocalListingFile, config.localDir);
-            logger.debug("Loaded {} previous local files from storage", previousLocalListing.size());
+            ListingIndex localListingIndex = new ListingIndex(currentLocalListingFile, config.localDir);
+            this.localListingIndex = localListingIndex;
+            logger.debug("Loaded {} previous local files from storage", localListingIndex.size());
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             logger.debug("Can't write file {}: {}", currentLocalListingFile, e.getMessage());
@@ -96,6 +119,9 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             updateStatus(ThingStatus.ONLINE);
             executionJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, config.pollIntervalLocal,
                     config.pollIntervalLocal, TimeUnit.SECONDS);
+            if (config.watchLocal) {
+                startWatching();
+            }
         } else {
             logger.debug("Polling interval invalid: {}", config.pollIntervalLocal);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -107,12 +133,209 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
     @Override
     public void dispose() {
         logger.debug("Disposing Local Folder Watcher handler for {}", thing.getUID());
+        synchronized (pendingFiles) {
+            // the watch thread may still report files until it notices that the watch service is closed
+            disposed = true;
+            ScheduledFuture<?> pendingFilesJob = this.pendingFilesJob;
+            if (pendingFilesJob != null) {
+                pendingFilesJob.cancel(false);
+                this.pendingFilesJob = null;
+            }
+            pendingFiles.clear();
+        }
         ScheduledFuture<?> executionJob = this.executionJob;
         if (executionJob != null) {
             executionJob.cancel(true);
             this.executionJob = null;
             logger.debug("Cancelled execution job");
         }
+        WatchService watchService = this.watchService;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close watch service: {}", e.getMessage());
+            }
+            this.watchService = null;
+        }
+    }
+
+    private void startWatching() {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            this.watchService = watchService;
+            Thread watchThread = new Thread(() -> watchFolder(watchService), "OH-binding-" + thing.getUID());
+            watchThread.setDaemon(true);
+            watchThread.start();
+        } catch (IOException e) {
+            logger.debug("Can't watch local directory, falling back to polling: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Announces new files shortly after they have been created, see {@link #fileCreated(Path)}. Runs until the watch
+     * service is closed. Events lost by the watch service are found by the next folder refresh.
+     */
+    private void watchFolder(WatchService watchService) {
+        logger.debug("Watching local directory {}", config.localDir);
+        try {
+            addDirectory(watchService, Paths.get(config.localDir), false);
+            while (true) {
+                WatchKey key = watchService.take();
+                if (!(key.watchable() instanceof Path dir)) {
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    try {
+                        processWatchEvent(watchService, dir, event);
+                    } catch (IOException e) {
+                        logger.debug("Failed to process event {} of {}: {}", event.kind(), dir, e.getMessage());
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Stopped watching local directory {}", config.localDir);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.debug("Watching local directory {} failed: {}", config.localDir, e.getMessage());
+        }
+    }
+
+    private void processWatchEvent(WatchService watchService, Path dir, WatchEvent<?> event) throws IOException {
+        if (event.kind() == OVERFLOW) {
+            logger.debug("Events of {} have been lost, refreshing folder information", dir);
+            scheduler.execute(this::refreshFolderInformation);
+        } else if (event.context() instanceof Path name) {
+            Path path = dir.resolve(name);
+            if (event.kind() == ENTRY_DELETE) {
+                ListingIndex localListingIndex = this.localListingIndex;
+                if (localListingIndex != null) {
+                    localListingIndex.remove(path.toAbsolutePath().toString());
+                }
+            } else if (Files.isDirectory(path)) {
+                if (config.listRecursiveLocal) {
+                    // files may have been created before the directory is watched
+                    addDirectory(watchService, path, true);
+                }
+            } else {
+                fileCreated(path);
+            }
+        }
+    }
+
+    /**
+     * Registers the directory and, if sub folders are listed, all its sub directories with the watch service.
+     *
+     * @param announceFiles true if files in the directories shall be announced
+     */
+    private void addDirectory(WatchService watchService, Path directory, boolean announceFiles) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<@Nullable Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(@Nullable Path dir, @Nullable BasicFileAttributes attrs)
+                    throws IOException {
+                if (dir != null) {
+                    try {
+                        dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE);
+                    } catch (IOException e) {
+                        // e.g. removed in the meantime, changes are found by the next folder refresh
+                        logger.debug("Can't watch directory {}: {}", dir, e.getMessage());
+                    }
+                    if (!config.listRecursiveLocal) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(@Nullable Path file, @Nullable BasicFileAttributes attrs)
+                    throws IOException {
+                if (file != null && announceFiles) {
+                    fileCreated(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(@Nullable Path file, @Nullable IOException exc)
+                    throws IOException {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Announces a created file as soon as its size hasn't changed for {@link #SETTLE_DELAY_MS}, so that files which
+     * are still being written are not announced before they are complete.
+     */
+    private void fileCreated(Path file) {
+        synchronized (pendingFiles) {
+            if (disposed) {
+                return;
+            }
+            pendingFiles.put(file, fileSize(file));
+            if (pendingFilesJob == null) {
+                pendingFilesJob = scheduler.schedule(this::announceSettledFiles, SETTLE_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void announceSettledFiles() {
+        List<Path> settledFiles = new ArrayList<>();
+        synchronized (pendingFiles) {
+            if (disposed) {
+                return;
+            }
+            pendingFilesJob = null;
+            Iterator<Map.Entry<Path, Long>> iterator = pendingFiles.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, Long> entry = iterator.next();
+                long size = fileSize(entry.getKey());
+                if (size < 0) {
+                    // removed in the meantime
+                    iterator.remove();
+                } else if (size == entry.getValue()) {
+                    iterator.remove();
+                    settledFiles.add(entry.getKey());
+                } else {
+                    entry.setValue(size);
+                }
+            }
+            if (!pendingFiles.isEmpty()) {
+                pendingFilesJob = scheduler.schedule(this::announceSettledFiles, SETTLE_DELAY_MS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        for (Path file : settledFiles) {
+            try {
+                fileFound(file);
+            } catch (IOException e) {
+                logger.debug("Failed to process new file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private void fileFound(Path file) throws IOException {
+        ListingIndex localListingIndex = this.localListingIndex;
+        if (localListingIndex == null || (Files.isHidden(file) && !config.listHiddenLocal)) {
+            return;
+        }
+        String fileName = file.toAbsolutePath().toString();
+        if (localListingIndex.add(fileName)) {
+            logger.trace("Triggering CHANNEL_NEWFILE with: {}", fileName);
+            triggerChannel(CHANNEL_NEWFILE, fileName);
+        }
     }
 
     private void refreshFolderInformation() {
@@ -158,22 +381,20 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
                 }
             });
 
-            List<String> diffLocalListing = new ArrayList<>(currentLocalListing);
-            diffLocalListing.removeAll(previousLocalListing);
+            ListingIndex localListingIndex = this.localListingIndex;
+            if (localListingIndex == null) {
+                return;
+            }
+            int previousSize = localListingIndex.size();
+            List<String> diffLocalListing = localListingIndex.update(currentLocalListing);
             logger.debug("Local directory scan found {} total files", currentLocalListing.size());
             logger.debug("Detected {} new local files since last refresh", diffLocalListing.size());
             diffLocalListing.forEach(file -> {
                 logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
                 triggerChannel(CHANNEL_NEWFILE, file);
             });
-
-            if (!diffLocalListing.isEmpty()) {
-                logger.debug("Saving {} new files to listing file", diffLocalListing.size());
-                WatcherCommon.saveNewListing(diffLocalListing, currentLocalListingFile);
-            }
-            logger.debug("Local refresh completed, updated previous listing from {} to {} files",
-                    previousLocalListing.size(), currentLocalListing.size());
-            previousLocalListing = new ArrayList<>(currentLocalListing);
+            logger.debug("Local refresh completed, updated previous listing from {} to {} files", previousSize,
+                    currentLocalListing.size());
         } catch (IOException e) {
             logger.debug("IOException during local directory walk: {}", e.getMessage(), e);
         }
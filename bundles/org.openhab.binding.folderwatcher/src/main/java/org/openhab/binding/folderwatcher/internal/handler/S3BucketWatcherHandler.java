@@ -25,7 +25,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.folderwatcher.internal.api.S3Actions;
 import org.openhab.binding.folderwatcher.internal.api.exception.APIException;
-import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.config.S3BucketWatcherConfiguration;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.io.net.http.HttpClientFactory;
@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
  * sent to one of the channels.
  *
  * @author Alexandr Salamatov - Initial contribution
+ * @author Contributors to the openHAB project - Use hash based listing index
  */
 @NonNullByDefault
 public class S3BucketWatcherHandler extends BaseThingHandler {
@@ -52,7 +53,7 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
     private File currentS3ListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousS3Listing = new ArrayList<>();
+    private @Nullable ListingIndex s3ListingIndex;
     private HttpClientFactory httpClientFactory;
     private @Nullable S3Actions s3;
 
@@ -93,8 +94,9 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
 
         try {
             logger.debug("Initializing S3 listing file for bucket: {}", config.s3BucketName);
-            previousS3Listing = WatcherCommon.initStorage(currentS3ListingFile, config.s3BucketName);
-            logger.debug("Loaded {} previous S3 files from storage", previousS3Listing.size());
+            ListingIndex s3ListingIndex = new ListingIndex(currentS3ListingFile, config.s3BucketName);
+            this.s3ListingIndex = s3ListingIndex;
+            logger.debug("Loaded {} previous S3 files from storage", s3ListingIndex.size());
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
             logger.debug("Can't write file {}: {}", currentS3ListingFile, e.getMessage());
@@ -122,21 +124,19 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
             currentS3Listing = s3.listBucket(config.s3Path);
             logger.debug("S3 bucket scan found {} total files", currentS3Listing.size());
             updateStatus(ThingStatus.ONLINE);
-            List<String> difS3Listing = new ArrayList<>(currentS3Listing);
-            difS3Listing.removeAll(previousS3Listing);
+            ListingIndex s3ListingIndex = this.s3ListingIndex;
+            if (s3ListingIndex == null) {
+                return false;
+            }
+            int previousSize = s3ListingIndex.size();
+            List<String> difS3Listing = s3ListingIndex.update(currentS3Listing);
             logger.debug("Detected {} new S3 files since last refresh", difS3Listing.size());
             difS3Listing.forEach(file -> {
                 logger.trace("Triggering CHANNEL_NEWFILE with: {}", file);
                 triggerChannel(CHANNEL_NEWFILE, file);
             });
-
-            if (!difS3Listing.isEmpty()) {
-                logger.debug("Saving {} new files to listing file", difS3Listing.size());
-                WatcherCommon.saveNewListing(difS3Listing, currentS3ListingFile);
-            }
-            logger.debug("S3 refresh completed, updated previous listing from {} to {} files", previousS3Listing.size(),
+            logger.debug("S3 refresh completed, updated previous listing from {} to {} files", previousSize,
                     currentS3Listing.size());
-            previousS3Listing = new ArrayList<>(currentS3Listing);
         } catch (Exception e) {
             logger.debug("Exception connecting to S3 bucket: {}", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Can't connect to the bucket");
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.folderwatcher.internal.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the {@link ListingIndex}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ListingIndexTest {
+    private static final String WATCH_DIR = "/watched";
+
+    @TempDir
+    @NonNullByDefault({})
+    Path tempDir;
+
+    private @NonNullByDefault({}) File listingFile;
+
+    @BeforeEach
+    public void setUp() {
+        listingFile = tempDir.resolve("FolderWatcher").resolve("listing.data").toFile();
+    }
+
+    @Test
+    public void testUpdateReturnsNewFiles() throws IOException {
+        ListingIndex index = new ListingIndex(listingFile, WATCH_DIR);
+        assertEquals(0, index.size());
+
+        assertEquals(List.of("a", "b"), index.update(List.of("a", "b")));
+        assertEquals(List.of("c"), index.update(List.of("c", "a", "b")));
+        assertEquals(List.of(), index.update(List.of("a", "b", "c")));
+        assertEquals(3, index.size());
+        assertEquals(List.of(WATCH_DIR, "a", "b", "c"), Files.readAllLines(listingFile.toPath()));
+
+        // the persisted files are not announced again after a restart
+        ListingIndex reloaded = new ListingIndex(listingFile, WATCH_DIR);
+        assertEquals(3, reloaded.size());
+        assertEquals(List.of("d"), reloaded.update(List.of("a", "b", "c", "d")));
+    }
+
+    @Test
+    public void testIndexOfOtherWatchDirectoryIsDiscarded() throws IOException {
+        new ListingIndex(listingFile, WATCH_DIR).update(List.of("a", "b"));
+
+        ListingIndex index = new ListingIndex(listingFile, "/other");
+        assertEquals(0, index.size());
+        assertEquals(List.of("a"), index.update(List.of("a")));
+        assertEquals(List.of("/other", "a"), Files.readAllLines(listingFile.toPath()));
+    }
+
+    @Test
+    public void testAdd() throws IOException {
+        ListingIndex index = new ListingIndex(listingFile, WATCH_DIR);
+        index.update(List.of("a"));
+
+        assertTrue(index.add("b"));
+        assertFalse(index.add("b"));
+        assertFalse(index.add("a"));
+        assertEquals(List.of(WATCH_DIR, "a", "b"), Files.readAllLines(listingFile.toPath()));
+
+        // an added file is kept by the next update, as it may have been created after the listing was taken
+        assertEquals(List.of(), index.update(List.of("a")));
+        assertEquals(2, index.size());
+        // but not by the update after
+        assertEquals(List.of(), index.update(List.of("a")));
+        assertEquals(1, index.size());
+        assertEquals(List.of("b"), index.update(List.of("a", "b")));
+    }
+
+    @Test
+    public void testRemove() throws IOException {
+        ListingIndex index = new ListingIndex(listingFile, WATCH_DIR);
+        index.update(List.of("a", "b"));
+        assertTrue(index.add("c"));
+
+        index.remove("a");
+        index.remove("c");
+        index.remove("unknown");
+        assertEquals(1, index.size());
+        assertTrue(index.add("c"));
+
+        // a removed file that appears again is a new file
+        assertEquals(List.of("a"), index.update(List.of("a", "b", "c")));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testListingFileIsRewrittenWhenMostEntriesAreRemoved() throws IOException {
+        ListingIndex index = new ListingIndex(listingFile, WATCH_DIR);
+        index.update(files(0, 1500));
+        assertEquals(1501, Files.readAllLines(listingFile.toPath()).size());
+
+        // 900 removed entries are below the minimum number of entries to rewrite the listing file
+        assertEquals(List.of(), index.update(files(0, 600)));
+        assertEquals(1501, Files.readAllLines(listingFile.toPath()).size());
+
+        // 1100 removed entries are more than the minimum and the remaining entries
+        assertEquals(List.of("new"), index.update(addNew(files(0, 400))));
+        List<String> lines = Files.readAllLines(listingFile.toPath());
+        assertEquals(402, lines.size());
+        assertEquals(WATCH_DIR, lines.get(0));
+        assertTrue(lines.contains("new"));
+        assertFalse(lines.contains("file-400"));
+
+        // the rewritten file is the base of the next rewrite
+        assertEquals(List.of(), index.update(files(0, 300)));
+        assertEquals(402, Files.readAllLines(listingFile.toPath()).size());
+
+        ListingIndex reloaded = new ListingIndex(listingFile, WATCH_DIR);
+        assertEquals(401, reloaded.size());
+        assertEquals(List.of("file-400"), reloaded.update(files(0, 401)));
+    }
+
+    private static List<String> files(int from, int to) {
+        List<String> files = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            files.add("file-" + i);
+        }
+        return files;
+    }
+
+    private static List<String> addNew(List<String> files) {
+        files.add("new");
+        return files;
+    }
+}
@@ -159,12 +159,16 @@ public class DiscoverComponents implements MqttMessageSubscriber {
                 logger.warn("Home Assistant discovery error: invalid configuration of component {}: {}",
                         haID.toShortTopic(), e.getMessage());
             }
-        } else if (discoveredListener != null) {
-            if (HomeAssistantBindingConstants.DEVICE_COMPONENT.equals(haID.component)) {
-                knownDeviceComponents.forEach(discoveredListener::componentRemoved);
-                knownDeviceComponents.clear();
+        } else {
+            // the retained config has been cleared
+            python.removeDiscoveryConfig(haID.toShortTopic());
+            if (discoveredListener != null) {
+                if (HomeAssistantBindingConstants.DEVICE_COMPONENT.equals(haID.component)) {
+                    knownDeviceComponents.forEach(discoveredListener::componentRemoved);
+                    knownDeviceComponents.clear();
+                }
+                discoveredListener.componentRemoved(haID);
             }
-            discoveredListener.componentRemoved(haID);
         }
     }
 
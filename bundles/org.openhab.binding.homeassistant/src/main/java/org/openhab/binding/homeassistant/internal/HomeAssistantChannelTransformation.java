@@ -43,6 +43,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
     private final Value template;
+    private final @Nullable NativeTemplate nativeTemplate;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
@@ -69,6 +70,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.component = component;
         this.command = command;
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
+        String templateSource = python.getTemplateSource(template);
+        this.nativeTemplate = templateSource != null ? NativeTemplate.parse(templateSource) : null;
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
     }
@@ -97,6 +100,13 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        NativeTemplate nativeTemplate = this.nativeTemplate;
+        if (nativeTemplate != null) {
+            String result = nativeTemplate.render(value);
+            if (result != null) {
+                return result;
+            }
+        }
         try {
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
@@ -15,6 +15,7 @@ package org.openhab.binding.homeassistant.internal;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -52,6 +53,17 @@ public class HomeAssistantPythonBridge {
             renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
             processDiscoveryConfigMeth, listMeth;
 
+    private record CachedDiscoveryConfig(String payload, List<MqttComponentConfig> components) {
+    }
+
+    /**
+     * Last processed discovery config by topic. Retained discovery messages are received again on every reconnect of
+     * the broker and the same config is processed by discovery, the thing handler and the components. Only the latest
+     * config of a topic is kept, so the cache holds one entry per live discovery topic; the entry is removed when the
+     * retained config is cleared.
+     */
+    private final Map<String, CachedDiscoveryConfig> discoveryCache = new HashMap<>();
+
     @Activate
     public HomeAssistantPythonBridge() {
         VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
@@ -124,6 +136,26 @@ public class HomeAssistantPythonBridge {
         return newRawTemplateMeth.execute(template);
     }
 
+    /**
+     * Get the source of a template, e.g. to render it natively.
+     *
+     * @param template the template
+     * @return the source of the template or null if not available
+     */
+    public @Nullable String getTemplateSource(Value template) {
+        try {
+            if (template.hasMember("template")) {
+                Value source = template.getMember("template");
+                if (source != null && source.isString()) {
+                    return source.asString();
+                }
+            }
+        } catch (PolyglotException e) {
+            logger.debug("Failed to get template source: {}", e.getMessage());
+        }
+        return null;
+    }
+
     public Value newCommandTemplate(Value template) {
         return newCommandTemplateMeth.execute(template);
     }
@@ -150,6 +182,31 @@ public class HomeAssistantPythonBridge {
     }
 
     public List<MqttComponentConfig> processDiscoveryConfig(String topic, String payload) {
+        synchronized (discoveryCache) {
+            CachedDiscoveryConfig cached = discoveryCache.get(topic);
+            if (cached != null && cached.payload().equals(payload)) {
+                return cached.components();
+            }
+        }
+        List<MqttComponentConfig> components = processDiscoveryConfigUncached(topic, payload);
+        synchronized (discoveryCache) {
+            discoveryCache.put(topic, new CachedDiscoveryConfig(payload, components));
+        }
+        return components;
+    }
+
+    /**
+     * Forget the processed discovery config of a topic, e.g. because its retained config has been cleared.
+     *
+     * @param topic the short discovery topic, as passed to {@link #processDiscoveryConfig(String, String)}
+     */
+    public void removeDiscoveryConfig(String topic) {
+        synchronized (discoveryCache) {
+            discoveryCache.remove(topic);
+        }
+    }
+
+    private List<MqttComponentConfig> processDiscoveryConfigUncached(String topic, String payload) {
         try {
             @SuppressWarnings("unchecked")
             List<Value> configs = (List<Value>) toJava(processDiscoveryConfigMeth.execute(topic, payload));
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders the most common simple Home Assistant templates natively in Java, without calling into Python.
+ *
+ * Supported are templates consisting of a single expression like {@code {{ value }}}, {@code {{ value_json.x }}} or
+ * {@code {{ value_json['a'].b[0] }}}, optionally followed by the filters {@code float}, {@code int} and
+ * {@code round(n)}. The result is formatted the same way Python would.
+ *
+ * Whenever the result might differ from the Jinja2 rendering, e.g. because a key is missing, the payload is not
+ * valid JSON or a number would be formatted in scientific notation, {@link #render(Object)} returns {@code null} and
+ * the template has to be rendered by Python instead.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class NativeTemplate {
+    private static final Pattern EXPRESSION = Pattern.compile("\\{\\{\\s*(.+?)\\s*\\}\\}", Pattern.DOTALL);
+    private static final Pattern DECIMAL = Pattern.compile("[+-]?\\d+(\\.\\d+)?");
+    private static final Pattern INTEGER = Pattern.compile("[+-]?\\d+");
+    // attributes of a python dict, which take precedence over the items in an attribute lookup
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+    private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+    private static final Object NONE = new Object();
+
+    private final boolean json;
+    private final List<Object> path;
+    private final List<Filter> filters;
+
+    private enum FilterType {
+        FLOAT,
+        INT,
+        ROUND
+    }
+
+    private record Filter(FilterType type, int precision) {
+    }
+
+    private NativeTemplate(boolean json, List<Object> path, List<Filter> filters) {
+        this.json = json;
+        this.path = path;
+        this.filters = filters;
+    }
+
+    /**
+     * Analyzes a template.
+     *
+     * @param template the template source
+     * @return the native template, or null if the template is not supported
+     */
+    public static @Nullable NativeTemplate parse(String template) {
+        Matcher matcher = EXPRESSION.matcher(template);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return new Parser(matcher.group(1)).parse();
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param value the payload of a value template or the value of a command template
+     * @return the rendered template, or null if it has to be rendered by Python
+     */
+    public @Nullable String render(Object value) {
+        @Nullable
+        Object current;
+        if (json) {
+            if (!(value instanceof String payload)) {
+                return null;
+            }
+            JsonElement element = parseJson(payload);
+            if (element == null) {
+                return null;
+            }
+            for (Object segment : path) {
+                element = lookup(element, segment);
+                if (element == null) {
+                    return null;
+                }
+            }
+            current = toValue(element);
+            if (current == null) {
+                return null;
+            }
+        } else if (value instanceof String || value instanceof Integer || value instanceof Long) {
+            current = value instanceof Integer i ? Long.valueOf(i) : value;
+        } else {
+            return null;
+        }
+
+        for (Filter filter : filters) {
+            current = switch (filter.type()) {
+                case FLOAT -> toFloat(current);
+                case INT -> toInt(current);
+                case ROUND -> round(current, filter.precision());
+            };
+            if (current == null) {
+                return null;
+            }
+        }
+        return format(current);
+    }
+
+    private static @Nullable JsonElement parseJson(String payload) {
+        try {
+            JsonReader reader = new JsonReader(new StringReader(payload));
+            reader.setStrictness(Strictness.STRICT);
+            JsonElement element = JSON_ELEMENT_ADAPTER.read(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? element : null;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable JsonElement lookup(JsonElement element, Object segment) {
+        if (segment instanceof Integer index) {
+            if (element instanceof JsonArray array && index < array.size()) {
+                return array.get(index);
+            }
+            return null;
+        }
+        if (element instanceof JsonObject object) {
+            return object.get((String) segment);
+        }
+        return null;
+    }
+
+    private static @Nullable Object toValue(JsonElement element) {
+        if (element.isJsonNull()) {
+            return NONE;
+        }
+        if (!(element instanceof JsonPrimitive primitive)) {
+            // dicts and lists are rendered with their python representation
+            return null;
+        }
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (primitive.isString()) {
+            return primitive.getAsString();
+        }
+        String number = primitive.getAsString();
+        if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            try {
+                return Long.parseLong(number);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return Double.parseDouble(number);
+    }
+
+    private static @Nullable Object toFloat(@Nullable Object value) {
+        if (value instanceof Long l) {
+            return l.doubleValue();
+        } else if (value instanceof Double) {
+            return value;
+        } else if (value instanceof String s && DECIMAL.matcher(s).matches()) {
+            return Double.parseDouble(s);
+        }
+        return null;
+    }
+
+    private static @Nullable Object toInt(@Nullable Object value) {
+        if (value instanceof String s && INTEGER.matcher(s).matches()) {
+            try {
+                return Long.parseLong(s);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        Object number = value instanceof String ? toFloat(value) : value;
+        if (number instanceof Long) {
+            return number;
+        } else if (number instanceof Double d && Double.isFinite(d) && Math.abs(d) < Long.MAX_VALUE) {
+            return (long) d.doubleValue();
+        }
+        return null;
+    }
+
+    private static @Nullable Object round(@Nullable Object value, int precision) {
+        Object number = toFloat(value);
+        if (!(number instanceof Double d) || !Double.isFinite(d)) {
+            return null;
+        }
+        // python rounds the exact binary value half to even
+        BigDecimal rounded = new BigDecimal(d).setScale(precision, RoundingMode.HALF_EVEN);
+        if (precision == 0) {
+            return rounded.abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) < 0 ? rounded.longValue() : null;
+        }
+        if (rounded.signum() == 0 && d < 0) {
+            // python keeps the sign of negative zero
+            return null;
+        }
+        return rounded.doubleValue();
+    }
+
+    private static @Nullable String format(Object value) {
+        if (value == NONE) {
+            return "None";
+        } else if (value instanceof Boolean b) {
+            return b ? "True" : "False";
+        } else if (value instanceof Long) {
+            return value.toString();
+        } else if (value instanceof Double d) {
+            // matches the python representation unless the scientific notation is used
+            String result = d.toString();
+            return Double.isFinite(d) && result.indexOf('E') < 0 ? result : null;
+        } else if (value instanceof String s) {
+            // the result is stripped and python strips more characters than Java
+            if (!s.isEmpty() && (isWhitespace(s.charAt(0)) || isWhitespace(s.charAt(s.length() - 1)))) {
+                return null;
+            }
+            // rendered command templates in the form of b'...' are converted to bytes
+            if (s.startsWith("b'") || s.startsWith("b\"")) {
+                return null;
+            }
+            return s;
+        }
+        return null;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+    }
+
+    private static class Parser {
+        private final String expression;
+        private int pos;
+
+        Parser(String expression) {
+            this.expression = expression;
+        }
+
+        @Nullable
+        NativeTemplate parse() {
+            String root = identifier();
+            boolean json;
+            if ("value_json".equals(root)) {
+                json = true;
+            } else if ("value".equals(root)) {
+                json = false;
+            } else {
+                return null;
+            }
+
+            List<Object> path = new ArrayList<>();
+            while (pos < expression.length()) {
+                char c = expression.charAt(pos);
+                if (c == '.') {
+                    pos++;
+                    String name = identifier();
+                    if (name == null || name.startsWith("_") || DICT_ATTRIBUTES.contains(name)) {
+                        return null;
+                    }
+                    path.add(name);
+                } else if (c == '[') {
+                    pos++;
+                    Object key = subscript();
+                    if (key == null || !consume(']')) {
+                        return null;
+                    }
+                    path.add(key);
+                } else {
+                    break;
+                }
+            }
+            if (!json && !path.isEmpty()) {
+                return null;
+            }
+
+            List<Filter> filters = new ArrayList<>();
+            skipWhitespace();
+            while (consume('|')) {
+                skipWhitespace();
+                String name = identifier();
+                if ("float".equals(name)) {
+                    filters.add(new Filter(FilterType.FLOAT, 0));
+                } else if ("int".equals(name)) {
+                    filters.add(new Filter(FilterType.INT, 0));
+                } else if ("round".equals(name)) {
+                    int precision = 0;
+                    skipWhitespace();
+                    if (consume('(')) {
+                        skipWhitespace();
+                        int start = pos;
+                        while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+                            pos++;
+                        }
+                        if (start == pos || pos - start > 1) {
+                            return null;
+                        }
+                        precision = Integer.parseInt(expression.substring(start, pos));
+                        skipWhitespace();
+                        if (!consume(')')) {
+                            return null;
+                        }
+                    }
+                    filters.add(new Filter(FilterType.ROUND, precision));
+                } else {
+                    return null;
+                }
+                skipWhitespace();
+            }
+            return pos == expression.length() ? new NativeTemplate(json, List.copyOf(path), List.copyOf(filters))
+                    : null;
+        }
+
+        private @Nullable String identifier() {
+            int start = pos;
+            while (pos < expression.length()) {
+                char c = expression.charAt(pos);
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_'
+                        || (pos > start && c >= '0' && c <= '9')) {
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            return pos > start ? expression.substring(start, pos) : null;
+        }
+
+        private @Nullable Object subscript() {
+            if (pos >= expression.length()) {
+                return null;
+            }
+            char quote = expression.charAt(pos);
+            if (quote == '\'' || quote == '"') {
+                int end = expression.indexOf(quote, pos + 1);
+                if (end < 0) {
+                    return null;
+                }
+                String key = expression.substring(pos + 1, end);
+                if (key.indexOf('\\') >= 0) {
+                    return null;
+                }
+                pos = end + 1;
+                return key;
+            }
+            int start = pos;
+            while (pos < expression.length() && Character.isDigit(expression.charAt(pos))) {
+                pos++;
+            }
+            if (start == pos || pos - start > 9) {
+                return null;
+            }
+            return Integer.parseInt(expression.substring(start, pos));
+        }
+
+        private boolean consume(char c) {
+            if (pos < expression.length() && expression.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < expression.length() && Character.isWhitespace(expression.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
@@ -305,6 +305,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         ThingUID thingUID;
         HaID haID = new HaID(topic);
         String thingID;
+        python.removeDiscoveryConfig(haID.toShortTopic());
 
         // Step 1: remove the topic mapping (under lock)
         synchronized (discoveryStateLock) {
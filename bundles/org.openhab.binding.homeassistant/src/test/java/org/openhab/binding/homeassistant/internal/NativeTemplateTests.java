@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that {@link NativeTemplate} renders the same results as the Python templates.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class NativeTemplateTests {
+    private static final HomeAssistantPythonBridge PYTHON = AbstractHomeAssistantTests.PYTHON;
+
+    private static final String ZIGBEE2MQTT_PAYLOAD = """
+            {"battery":97,"humidity":55.43,"linkquality":132,"pressure":1013.2,"temperature":21.5,\
+            "voltage":2985,"contact":true,"state":"ON","brightness":254,"color":{"x":0.3131,"y":0.3232},\
+            "update":{"state":"idle","installed_version":-1},"occupancy":false,"power":-0.3,"action":null,\
+            "list":[1,2.5,"three"],"name":" padded "}\
+            """;
+
+    @Test
+    public void testSupportedTemplates() {
+        List<String> templates = List.of("{{ value }}", "{{ value_json.temperature }}", "{{value_json.humidity}}",
+                "{{ value_json['color'].x }}", "{{ value_json[\"color\"]['y'] }}", "{{ value_json.update.state }}",
+                "{{ value_json.update.installed_version }}", "{{ value_json.contact }}",
+                "{{ value_json.occupancy }}", "{{ value_json.action }}", "{{ value_json.list[0] }}",
+                "{{ value_json.list[1] }}", "{{ value_json.list[2] }}", "{{ value_json.state }}",
+                "{{ value_json.battery | float }}", "{{ value_json.temperature | int }}",
+                "{{ value_json.humidity | round(1) }}", "{{ value_json.humidity | round }}",
+                "{{ value_json.voltage | float / 1000 }}", "{{ value_json.pressure | float | round(0) }}",
+                "{{ value_json.power | round(0) }}", "{{ value_json.power | int }}",
+                "{{ value_json.brightness | round(2) }}", "{{ value_json.name }}", "{{ value_json.missing }}",
+                "{{ value_json.color }}", "{{ value_json.list }}", "{{ value_json.items }}",
+                "{{ value_json.state | float }}");
+        for (String template : templates) {
+            assertSameResult(template, ZIGBEE2MQTT_PAYLOAD);
+        }
+    }
+
+    @Test
+    public void testNativeResults() {
+        assertThat(render("{{ value_json.temperature }}", ZIGBEE2MQTT_PAYLOAD), is("21.5"));
+        assertThat(render("{{ value_json['color'].x }}", ZIGBEE2MQTT_PAYLOAD), is("0.3131"));
+        assertThat(render("{{ value_json.contact }}", ZIGBEE2MQTT_PAYLOAD), is("True"));
+        assertThat(render("{{ value_json.action }}", ZIGBEE2MQTT_PAYLOAD), is("None"));
+        assertThat(render("{{ value_json.battery | float }}", ZIGBEE2MQTT_PAYLOAD), is("97.0"));
+        assertThat(render("{{ value_json.humidity | round(1) }}", ZIGBEE2MQTT_PAYLOAD), is("55.4"));
+        assertThat(render("{{ value_json.humidity | round }}", ZIGBEE2MQTT_PAYLOAD), is("55"));
+        assertThat(render("{{ value | round(2) }}", "2.675"), is("2.67"));
+
+        // falls back to python
+        assertThat(render("{{ value_json.missing }}", ZIGBEE2MQTT_PAYLOAD), is(nullValue()));
+        assertThat(render("{{ value_json.color }}", ZIGBEE2MQTT_PAYLOAD), is(nullValue()));
+        assertThat(render("{{ value_json.name }}", ZIGBEE2MQTT_PAYLOAD), is(nullValue()));
+        assertThat(render("{{ value_json.temperature }}", "not json"), is(nullValue()));
+        assertThat(render("{{ value | float }}", "1e-5"), is(nullValue()));
+    }
+
+    @Test
+    public void testPlainValues() {
+        for (String payload : List.of("21", "21.5", "-0.25", "ON", "1e3", "007", "not json", "\"quoted\"", "")) {
+            assertSameResult("{{ value }}", payload);
+            assertSameResult("{{ value | float }}", payload);
+            assertSameResult("{{ value | int }}", payload);
+            assertSameResult("{{ value | round(1) }}", payload);
+            assertSameResult("{{ value_json }}", payload);
+        }
+    }
+
+    @Test
+    public void testRounding() {
+        for (String payload : List.of("2.675", "0.5", "1.5", "2.5", "-2.5", "-0.04", "1234567.891")) {
+            assertSameResult("{{ value | round(2) }}", payload);
+            assertSameResult("{{ value | round(1) }}", payload);
+            assertSameResult("{{ value | round }}", payload);
+        }
+    }
+
+    @Test
+    public void testUnsupportedTemplates() {
+        assertThat(NativeTemplate.parse("{{ value_json.x | default(0) }}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{{ value_json.x }} {{ value_json.y }}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{{ value_json.x * 10 }}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{% if value_json.x %}ON{% endif %}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{{ value.x }}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{{ value_json.items }}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{{ value_json['a\\'b'] }}"), is(nullValue()));
+        assertThat(NativeTemplate.parse("{{ value_json.x | round(2, 'floor') }}"), is(nullValue()));
+
+        assertThat(NativeTemplate.parse("{{ value_json.x | float | round(1) }}"), is(notNullValue()));
+    }
+
+    private void assertSameResult(String template, String payload) {
+        NativeTemplate nativeTemplate = NativeTemplate.parse(template);
+        if (nativeTemplate == null) {
+            return;
+        }
+        String nativeResult = nativeTemplate.render(payload);
+        if (nativeResult == null) {
+            return;
+        }
+        assertThat(template + " with " + payload, nativeResult, is(renderPython(template, payload)));
+    }
+
+    private @Nullable String render(String template, String payload) {
+        NativeTemplate nativeTemplate = NativeTemplate.parse(template);
+        assertThat(nativeTemplate, is(notNullValue()));
+        return nativeTemplate == null ? null : nativeTemplate.render(payload);
+    }
+
+    private @Nullable String renderPython(String template, String payload) {
+        return PYTHON.renderValueTemplate(PYTHON.newValueTemplate(PYTHON.newRawTemplate(template)), payload,
+                HomeAssistantChannelTransformation.PAYLOAD_SENTINEL_NONE);
+    }
+}
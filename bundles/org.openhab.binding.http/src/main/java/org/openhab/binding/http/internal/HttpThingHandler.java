@@ -40,6 +40,7 @@ import org.eclipse.jetty.client.util.DigestAuthentication;
 import org.openhab.binding.http.internal.config.HttpChannelConfig;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.binding.http.internal.http.HttpAuthException;
+import org.openhab.binding.http.internal.http.HttpResponseCache;
 import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
@@ -90,6 +91,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final HttpResponseCache httpResponseCache;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
@@ -98,12 +100,13 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, HttpResponseCache httpResponseCache) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
+        this.httpResponseCache = httpResponseCache;
     }
 
     @Override
@@ -170,6 +173,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             rateLimitedHttpClient.setHttpClient(httpClientProvider.getSecureClient());
         }
         rateLimitedHttpClient.setDelay(config.delay);
+        rateLimitedHttpClient.setMaxConcurrentRequests(config.maxConcurrentRequests);
 
         // remove empty headers
         config.headers.removeIf(String::isBlank);
@@ -337,7 +341,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             channelUrls.put(channelUID, key);
             Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
                     k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config, channelConfig.stateContent,
-                            config.contentType, this, channelConfig.refreshAfterCommand)))
+                            config.contentType, this, channelConfig.refreshAfterCommand, httpResponseCache)))
                     .addConsumer(itemValueConverter::process);
         }
 
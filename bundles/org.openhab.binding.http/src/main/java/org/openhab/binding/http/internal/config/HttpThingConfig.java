@@ -37,6 +37,7 @@ public class HttpThingConfig {
     public int refresh = 30;
     public int timeout = 3000;
     public int delay = 0;
+    public int maxConcurrentRequests = 0;
 
     public String username = "";
     public String password = "";
@@ -52,6 +53,7 @@ public class HttpThingConfig {
 
     public boolean ignoreSSLErrors = false;
     public boolean strictErrorHandling = false;
+    public boolean skipUnchangedContent = false;
 
     // ArrayList is required as implementation because list may be modified later
     public ArrayList<String> headers = new ArrayList<>();
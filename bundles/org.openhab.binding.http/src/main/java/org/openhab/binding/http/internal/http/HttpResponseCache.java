@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+/**
+ * The {@link HttpResponseCache} holds the last response for each request, shared by all {@link RefreshingUrlCache}s.
+ * It allows things requesting the same resource to share a single request and provides the validators for
+ * conditional requests.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class HttpResponseCache {
+    // entries which were not refreshed for this time are removed
+    private static final Duration MAX_ENTRY_AGE = Duration.ofDays(1);
+
+    /**
+     * A cached response
+     *
+     * @param uri the requested URI (after formatting)
+     * @param content the content of the response
+     * @param time the time the response was received or validated
+     * @param eTag the value of the ETag header, if present
+     * @param lastModified the value of the Last-Modified header, if present
+     */
+    public record Entry(URI uri, ChannelHandlerContent content, Instant time, @Nullable String eTag,
+            @Nullable String lastModified) {
+
+        public boolean isNewerThan(Instant instant) {
+            return time.isAfter(instant);
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<@Nullable ChannelHandlerContent>> pendingRequests = new ConcurrentHashMap<>();
+
+    public @Nullable Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public void put(String key, Entry entry) {
+        Instant expired = entry.time().minus(MAX_ENTRY_AGE);
+        entries.values().removeIf(e -> !e.isNewerThan(expired));
+        entries.put(key, entry);
+    }
+
+    /**
+     * Register a pending request
+     *
+     * @param key the request key
+     * @param result the future that is completed with the result of the request
+     * @return the future of an already pending request for the same key (which should be used instead), or
+     *         <code>null</code> if the request was registered
+     */
+    public @Nullable CompletableFuture<@Nullable ChannelHandlerContent> registerPendingRequest(String key,
+            CompletableFuture<@Nullable ChannelHandlerContent> result) {
+        CompletableFuture<@Nullable ChannelHandlerContent> pending = pendingRequests.putIfAbsent(key, result);
+        if (pending == null) {
+            result.whenComplete((content, t) -> pendingRequests.remove(key, result));
+        }
+        return pending;
+    }
+
+    public void clear() {
+        entries.clear();
+        pendingRequests.clear();
+    }
+}
@@ -13,13 +13,20 @@
 package org.openhab.binding.http.internal.http;
 
 import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,23 +41,23 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
- * the request creation
+ * the request creation. Limits are applied per target host: each host has its own queue, the delay between two
+ * requests and the maximum number of concurrent requests, so a slow host does not delay requests to other hosts.
+ * Priority requests (commands) are always created before regular requests (state refreshes). A regular request that is
+ * still queued is superseded by a new identical request, the future of the stale request is cancelled.
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
-    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size (per host)
     private final Logger logger = LoggerFactory.getLogger(RateLimitedHttpClient.class);
 
     private HttpClient httpClient;
     private int delay = 0; // in ms
+    private int maxConcurrentRequests = 0; // per host, 0 = unlimited
     private final ScheduledExecutorService scheduler;
-    private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
-    private final LinkedBlockingQueue<RequestQueueEntry> priorityRequestQueue = new LinkedBlockingQueue<>(
-            MAX_QUEUE_SIZE);
-
-    private @Nullable ScheduledFuture<?> processJob;
+    private final Map<String, HostQueue> hostQueues = new ConcurrentHashMap<>();
 
     public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
         this.httpClient = httpClient;
@@ -58,27 +65,36 @@ public class RateLimitedHttpClient {
     }
 
     /**
-     * Stop processing the queue and clear it
+     * Stop processing the queues and clear them
      */
     public void shutdown() {
-        stopProcessJob();
-        requestQueue.forEach(RequestQueueEntry::cancel);
+        hostQueues.values().forEach(HostQueue::cancel);
+        hostQueues.clear();
     }
 
     /**
      * Set a new delay
      *
-     * @param delay in ms between to requests
+     * @param delay in ms between to requests (to the same host)
      */
     public void setDelay(int delay) {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
         this.delay = delay;
-        stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Set the maximum number of concurrent requests to the same host
+     *
+     * @param maxConcurrentRequests the maximum number of requests, 0 for unlimited
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum number of concurrent requests needs to be larger or equal to zero");
         }
+        this.maxConcurrentRequests = maxConcurrentRequests;
     }
 
     /**
@@ -100,7 +116,7 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, requestQueue);
+        return queueRequest(finalUrl, method, content, contentType, false);
     }
 
     /**
@@ -113,25 +129,27 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newPriorityRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, priorityRequestQueue);
+        return queueRequest(finalUrl, method, content, contentType, true);
     }
 
     private CompletableFuture<Request> queueRequest(URI finalUrl, HttpMethod method, String content,
-            @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue) {
-        // if no delay is set, return a completed CompletableFuture
+            @Nullable String contentType, boolean priority) {
         CompletableFuture<Request> future = new CompletableFuture<>();
         RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future);
-        if (delay == 0) {
+        if (delay == 0 && maxConcurrentRequests == 0) {
+            // if no limit is set, return a completed CompletableFuture
             queueEntry.completeFuture(httpClient);
         } else {
-            if (!queue.offer(queueEntry)) {
-                future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
-            }
-
+            Objects.requireNonNull(hostQueues.computeIfAbsent(hostKey(finalUrl), HostQueue::new)).offer(queueEntry,
+                    priority);
         }
         return future;
     }
 
+    private static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
     /**
      * Get the {@link AuthenticationStore} from the wrapped {@link HttpClient}
      *
@@ -160,25 +178,142 @@ public class RateLimitedHttpClient {
         }
     }
 
-    private void stopProcessJob() {
-        ScheduledFuture<?> processJob = this.processJob;
-        if (processJob != null) {
-            processJob.cancel(false);
-            this.processJob = null;
-        }
-    }
-
     /**
-     * Gets a request from either the priority queue or tge regular queue and creates the request
+     * The {@link HostQueue} holds the queued requests for a single host. Requests are released when a token is
+     * available (one token per configured delay) and the number of concurrent requests is below the limit.
      */
-    private void processQueue() {
-        RequestQueueEntry queueEntry = priorityRequestQueue.poll();
-        if (queueEntry == null) {
-            // no entry in priorityRequestQueue, try the regular queue
-            queueEntry = requestQueue.poll();
+    private class HostQueue {
+        private final String host;
+        private final Deque<RequestQueueEntry> priorityRequestQueue = new ArrayDeque<>();
+        private final Deque<RequestQueueEntry> requestQueue = new ArrayDeque<>();
+        private long nextRequestTime = 0; // in ns
+        private int activeRequests = 0;
+        private @Nullable ScheduledFuture<?> processJob;
+
+        public HostQueue(String host) {
+            this.host = host;
         }
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
+
+        public void offer(RequestQueueEntry queueEntry, boolean priority) {
+            synchronized (this) {
+                if (!priority) {
+                    for (RequestQueueEntry queued : requestQueue) {
+                        if (queued.isSameRequest(queueEntry)) {
+                            // the queued request was not created yet, replace its (stale) future
+                            logger.trace("Request to '{}' superseded by a newer request", queueEntry.finalUrl);
+                            queued.supersede(queueEntry);
+                            return;
+                        }
+                    }
+                }
+                Deque<RequestQueueEntry> queue = priority ? priorityRequestQueue : requestQueue;
+                if (queue.size() >= MAX_QUEUE_SIZE) {
+                    queueEntry.cancel(new RejectedExecutionException("Maximum queue size exceeded."));
+                    return;
+                }
+                queue.add(queueEntry);
+                if (processJob != null) {
+                    // waiting for the next token
+                    return;
+                }
+            }
+            process();
+        }
+
+        private void process() {
+            List<RequestQueueEntry> releasedEntries = new ArrayList<>();
+            boolean limitConcurrency = maxConcurrentRequests > 0;
+            synchronized (this) {
+                processJob = null;
+                while (!priorityRequestQueue.isEmpty() || !requestQueue.isEmpty()) {
+                    if (limitConcurrency && activeRequests >= maxConcurrentRequests) {
+                        // continued when a request completes
+                        break;
+                    }
+                    long now = System.nanoTime();
+                    if (delay > 0 && now - nextRequestTime < 0) {
+                        processJob = scheduler.schedule(this::process, nextRequestTime - now, TimeUnit.NANOSECONDS);
+                        break;
+                    }
+                    RequestQueueEntry queueEntry = priorityRequestQueue.poll();
+                    if (queueEntry == null) {
+                        // no entry in priorityRequestQueue, try the regular queue
+                        queueEntry = requestQueue.poll();
+                    }
+                    if (queueEntry == null || queueEntry.isDone()) {
+                        continue;
+                    }
+                    nextRequestTime = now + TimeUnit.MILLISECONDS.toNanos(delay);
+                    if (limitConcurrency) {
+                        activeRequests++;
+                    }
+                    releasedEntries.add(queueEntry);
+                }
+            }
+            // complete the futures outside the lock, the requests are sent by the callers
+            for (RequestQueueEntry queueEntry : releasedEntries) {
+                if (limitConcurrency) {
+                    dispatch(queueEntry);
+                } else {
+                    try {
+                        queueEntry.completeFuture(httpClient);
+                    } catch (RuntimeException e) {
+                        queueEntry.cancel(e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Complete the future of an entry that took a concurrency slot. The slot is released exactly once: when the
+         * request completes or, if the request was not handed out (client stopped, creation failed or the future was
+         * already cancelled), immediately.
+         */
+        private void dispatch(RequestQueueEntry queueEntry) {
+            AtomicBoolean slotTaken = new AtomicBoolean(true);
+            Runnable releaseSlot = () -> {
+                if (slotTaken.compareAndSet(true, false)) {
+                    requestCompleted();
+                }
+            };
+            boolean dispatched = false;
+            try {
+                if (httpClient.isRunning()) {
+                    dispatched = queueEntry.completeFuture(httpClient, releaseSlot);
+                } else {
+                    queueEntry.cancel(new RejectedExecutionException("HTTP client is stopped."));
+                }
+            } catch (RuntimeException e) {
+                queueEntry.cancel(e);
+            } finally {
+                if (!dispatched) {
+                    releaseSlot.run();
+                }
+            }
+        }
+
+        private void requestCompleted() {
+            synchronized (this) {
+                activeRequests--;
+                if (processJob != null) {
+                    // waiting for the next token
+                    return;
+                }
+            }
+            process();
+        }
+
+        public synchronized void cancel() {
+            ScheduledFuture<?> processJob = this.processJob;
+            if (processJob != null) {
+                processJob.cancel(false);
+                this.processJob = null;
+            }
+            priorityRequestQueue.forEach(RequestQueueEntry::cancel);
+            requestQueue.forEach(RequestQueueEntry::cancel);
+            priorityRequestQueue.clear();
+            requestQueue.clear();
+            logger.trace("Cancelled queued requests to '{}'", host);
         }
     }
 
@@ -187,7 +322,7 @@ public class RateLimitedHttpClient {
         private final HttpMethod method;
         private final String content;
         private final @Nullable String contentType;
-        private final CompletableFuture<Request> future;
+        private CompletableFuture<Request> future;
 
         public RequestQueueEntry(URI finalUrl, HttpMethod method, String content, @Nullable String contentType,
                 CompletableFuture<Request> future) {
@@ -198,12 +333,47 @@ public class RateLimitedHttpClient {
             this.future = future;
         }
 
+        /**
+         * check if another entry is for an identical request
+         */
+        public boolean isSameRequest(RequestQueueEntry other) {
+            return finalUrl.equals(other.finalUrl) && method == other.method && content.equals(other.content)
+                    && Objects.equals(contentType, other.contentType);
+        }
+
+        /**
+         * cancel the future of this request and use the future of the newer entry instead
+         *
+         * @param newer the entry superseding this entry
+         */
+        public void supersede(RequestQueueEntry newer) {
+            cancel();
+            future = newer.future;
+        }
+
         /**
          * complete the future with a request
          *
          * @param httpClient the client to create the request
          */
         public void completeFuture(HttpClient httpClient) {
+            future.complete(createRequest(httpClient));
+        }
+
+        /**
+         * complete the future with a request and notify when the request is completed
+         *
+         * @param httpClient the client to create the request
+         * @param onComplete called when the request is completed
+         * @return true if the future was completed with the request, false if it was already done
+         */
+        public boolean completeFuture(HttpClient httpClient, Runnable onComplete) {
+            Request request = createRequest(httpClient);
+            request.onComplete(result -> onComplete.run());
+            return future.complete(request);
+        }
+
+        private Request createRequest(HttpClient httpClient) {
             Request request = httpClient.newRequest(finalUrl).method(method);
             if ((method == HttpMethod.POST || method == HttpMethod.PUT) && !content.isEmpty()) {
                 if (contentType == null) {
@@ -212,14 +382,25 @@ public class RateLimitedHttpClient {
                     request.content(new StringContentProvider(content), contentType);
                 }
             }
-            future.complete(request);
+            return request;
+        }
+
+        public boolean isDone() {
+            return future.isDone();
         }
 
         /**
          * cancel this request and complete the future with a {@link CancellationException}
          */
         public void cancel() {
-            future.completeExceptionally(new CancellationException());
+            cancel(new CancellationException());
+        }
+
+        /**
+         * cancel this request and complete the future with the given exception
+         */
+        public void cancel(Exception e) {
+            future.completeExceptionally(e);
         }
     }
 }
@@ -15,20 +15,27 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
@@ -38,7 +45,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
- * channels
+ * channels. Responses are shared with other things requesting the same resource through the {@link HttpResponseCache}.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -59,9 +66,20 @@ public class RefreshingUrlCache {
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
     private final boolean refreshAfterCommand;
+    private final boolean skipUnchangedContent;
+    private final HttpResponseCache responseCache;
+    private final String cacheKey;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong sharedResponses = new AtomicLong();
+    private final AtomicLong unchangedResponses = new AtomicLong();
+    private volatile long lastRequestTime;
+    private volatile long lastProcessingTime;
 
     private @Nullable ScheduledFuture<?> future;
-    private @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable ChannelHandlerContent lastContent;
+    private Duration maxSharedResponseAge = Duration.ZERO;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -71,6 +89,13 @@ public class RefreshingUrlCache {
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
             boolean refreshAfterCommand) {
+        this(httpClient, url, thingConfig, httpContent, httpContentType, httpStatusListener, refreshAfterCommand,
+                new HttpResponseCache());
+    }
+
+    public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
+            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
+            boolean refreshAfterCommand, HttpResponseCache responseCache) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
@@ -83,6 +108,13 @@ public class RefreshingUrlCache {
         this.httpStatusListener = httpStatusListener;
         this.refreshAfterCommand = refreshAfterCommand;
         fallbackEncoding = thingConfig.encoding;
+        this.skipUnchangedContent = thingConfig.skipUnchangedContent;
+        this.responseCache = responseCache;
+        // only requests with identical parameters can share the response
+        this.cacheKey = String.join("\n", url, httpMethod.asString(), httpContent, String.valueOf(httpContentType),
+                new TreeMap<>(headers).toString(), String.valueOf(fallbackEncoding), String.valueOf(bufferSize),
+                String.valueOf(thingConfig.ignoreSSLErrors), thingConfig.authMode.name(), thingConfig.username,
+                thingConfig.password);
     }
 
     public void start(ScheduledExecutorService executor, int refreshTime) {
@@ -90,6 +122,8 @@ public class RefreshingUrlCache {
             logger.warn("Starting refresh task requested but it is already started. This is bug.");
             return;
         }
+        // responses of other things are used if they are not older than half of the refresh time
+        maxSharedResponseAge = Duration.ofMillis(refreshTime * 500L);
         future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
     }
@@ -101,6 +135,10 @@ public class RefreshingUrlCache {
         if (future != null) {
             future.cancel(true);
             logger.trace("Stopped refresh task for URL '{}'", url);
+            logger.debug(
+                    "Statistics for URL '{}': {} requests, {} not modified, {} shared, {} unchanged, last request {} ms, last processing {} ms",
+                    url, requests.get(), notModifiedResponses.get(), sharedResponses.get(), unchangedResponses.get(),
+                    lastRequestTime, lastProcessingTime);
         }
     }
 
@@ -110,56 +148,137 @@ public class RefreshingUrlCache {
 
     public void refreshAfterCommand(ScheduledExecutorService executor) {
         if (refreshAfterCommand) {
-            executor.schedule(() -> this.refresh(), 1, TimeUnit.SECONDS);
+            // the state has probably changed, so don't use a shared or pending response
+            executor.schedule(() -> this.refresh(true), 1, TimeUnit.SECONDS);
             logger.trace("Started refresh task for URL '{}'", url);
         }
     }
 
-    private void refresh(boolean isRetry) {
+    private void refresh(boolean force) {
         if (consumers.isEmpty()) {
             // do not refresh if we don't have listeners
             return;
         }
 
         // format URL
+        URI uri;
         try {
-            URI uri = Util.uriFromString(Util.wrappedStringFormat(this.url, new Date()));
-            logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
-
-            httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
-                request.timeout(timeout, TimeUnit.MILLISECONDS);
-                headers.forEach(request::header);
-
-                CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
-                        if (isRetry || !httpClient.reAuth(uri)) {
-                            logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
-                            httpStatusListener.onHttpError("Authentication failed");
-                        } else {
-                            refresh(true);
-                        }
+            uri = Util.uriFromString(Util.wrappedStringFormat(this.url, new Date()));
+        } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
+            logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
+            return;
+        }
+
+        HttpResponseCache.Entry entry = responseCache.get(cacheKey);
+        if (entry != null && !uri.equals(entry.uri())) {
+            entry = null;
+        }
+        if (!force && entry != null && entry.isNewerThan(Instant.now().minus(maxSharedResponseAge))) {
+            logger.trace("Using shared response for '{}' received at {}", uri, entry.time());
+            sharedResponses.incrementAndGet();
+            httpStatusListener.onHttpSuccess();
+            processResult(entry.content());
+            return;
+        }
+
+        CompletableFuture<@Nullable ChannelHandlerContent> result = new CompletableFuture<>();
+        if (!force) {
+            CompletableFuture<@Nullable ChannelHandlerContent> pending = responseCache.registerPendingRequest(cacheKey,
+                    result);
+            if (pending != null) {
+                logger.trace("Using pending request for '{}'", uri);
+                sharedResponses.incrementAndGet();
+                pending.thenAccept(content -> {
+                    if (content != null) {
+                        httpStatusListener.onHttpSuccess();
+                    } else {
+                        httpStatusListener.onHttpError("Request failed");
                     }
-                    return null;
-                }).thenAccept(this::processResult);
+                    processResult(content);
+                });
+                return;
+            }
+        }
+
+        long startTime = System.nanoTime();
+        result.thenAccept(content -> {
+            lastRequestTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            processResult(content);
+        });
+        sendRequest(uri, entry, false, result);
+    }
 
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
+    private void sendRequest(URI uri, HttpResponseCache.@Nullable Entry entry, boolean isRetry,
+            CompletableFuture<@Nullable ChannelHandlerContent> result) {
+        logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
+        requests.incrementAndGet();
+
+        httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
+            request.timeout(timeout, TimeUnit.MILLISECONDS);
+            headers.forEach(request::header);
+
+            // conditional requests are only defined for GET
+            ChannelHandlerContent cachedContent = null;
+            if (entry != null && httpMethod == HttpMethod.GET) {
+                String eTag = entry.eTag();
+                String lastModified = entry.lastModified();
+                if (eTag != null) {
+                    request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                    cachedContent = entry.content();
+                }
+                if (lastModified != null) {
+                    request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                    cachedContent = entry.content();
                 }
+            }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
-            }).exceptionally(e -> {
-                if (e instanceof CancellationException) {
-                    logger.debug("Request to URL {} was cancelled by thing handler.", uri);
-                } else {
-                    logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
+            CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
+            HttpResponseListener responseListener = new HttpResponseListener(responseContentFuture, fallbackEncoding,
+                    bufferSize, httpStatusListener, cachedContent);
+            ChannelHandlerContent notModifiedContent = cachedContent;
+            responseContentFuture.whenComplete((content, t) -> {
+                if (t instanceof HttpAuthException) {
+                    if (!isRetry && httpClient.reAuth(uri)) {
+                        sendRequest(uri, entry, true, result);
+                        return;
+                    }
+                    logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
+                    httpStatusListener.onHttpError("Authentication failed");
                 }
-                return null;
+                if (content != null) {
+                    if (content == notModifiedContent) {
+                        notModifiedResponses.incrementAndGet();
+                    }
+                    String eTag = responseListener.getETag();
+                    String lastModified = responseListener.getLastModified();
+                    if (content == notModifiedContent && entry != null) {
+                        // a 304 response may omit the validators
+                        eTag = eTag != null ? eTag : entry.eTag();
+                        lastModified = lastModified != null ? lastModified : entry.lastModified();
+                    }
+                    responseCache.put(cacheKey,
+                            new HttpResponseCache.Entry(uri, content, Instant.now(), eTag, lastModified));
+                }
+                result.complete(content);
             });
-        } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
-            logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
-        }
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
+            }
+
+            request.send(responseListener);
+        }).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CancellationException) {
+                // cancelled by thing handler or superseded by a newer request, nothing to process
+                logger.debug("Request to URL {} was cancelled.", uri);
+                result.cancel(false);
+            } else {
+                logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
+                result.complete(null);
+            }
+            return null;
+        });
     }
 
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
@@ -171,7 +290,16 @@ public class RefreshingUrlCache {
     }
 
     private void processResult(@Nullable ChannelHandlerContent content) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        this.lastContent = content;
+        if (skipUnchangedContent && content != null && lastContent != null && (content == lastContent
+                || Arrays.equals(content.getRawContent(), lastContent.getRawContent()))) {
+            logger.trace("Content of URL {} is unchanged, skipping update of channels", url);
+            unchangedResponses.incrementAndGet();
+            return;
+        }
         if (content != null || strictErrorHandling) {
+            long startTime = System.nanoTime();
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
                     consumer.accept(content);
@@ -179,7 +307,51 @@ public class RefreshingUrlCache {
                     logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
                 }
             }
+            lastProcessingTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            logger.trace("Processed result for URL {} in {} ms (request took {} ms)", url, lastProcessingTime,
+                    lastRequestTime);
         }
-        lastContent = content;
+    }
+
+    /**
+     * Get the number of requests sent for this URL
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Get the number of requests that were answered with "304 Not Modified"
+     */
+    public long getNotModifiedCount() {
+        return notModifiedResponses.get();
+    }
+
+    /**
+     * Get the number of refreshes that used the response of a request for another thing
+     */
+    public long getSharedResponseCount() {
+        return sharedResponses.get();
+    }
+
+    /**
+     * Get the number of refreshes that were skipped because the content did not change
+     */
+    public long getUnchangedCount() {
+        return unchangedResponses.get();
+    }
+
+    /**
+     * Get the duration of the last request in ms
+     */
+    public long getLastRequestTime() {
+        return lastRequestTime;
+    }
+
+    /**
+     * Get the time needed for processing the last result in all channels in ms
+     */
+    public long getLastProcessingTime() {
+        return lastProcessingTime;
     }
 }
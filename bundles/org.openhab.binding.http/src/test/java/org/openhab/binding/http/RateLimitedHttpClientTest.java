@@ -23,16 +23,26 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.http.HttpMethod;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -99,6 +109,91 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         assertThat((int) msBetween, allOf(greaterThanOrEqualTo(1000), lessThan(1100)));
     }
 
+    @Test
+    public void testSupersededRequestIsCancelled() throws Exception {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setDelay(500);
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+
+        CompletableFuture<Request> first = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null);
+        CompletableFuture<Request> stale = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null);
+        CompletableFuture<Request> current = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null);
+
+        // the first request is created immediately, the second was superseded by the third before it was created
+        assertTrue(first.isDone());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> stale.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CancellationException);
+        current.get(1, TimeUnit.SECONDS);
+        rateLimitedHttpClient.shutdown();
+    }
+
+    @Test
+    public void testRequestAbortedBeforeDispatchDoesNotBlockQueue() throws Exception {
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withFixedDelay(500).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setMaxConcurrentRequests(1);
+        URI slowUrl = URI.create("http://localhost:" + port + "/slow");
+        URI abortedUrl = URI.create("http://localhost:" + port + "/aborted");
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+
+        CompletableFuture<Result> slow = new CompletableFuture<>();
+        rateLimitedHttpClient.newRequest(slowUrl, HttpMethod.GET, "", null)
+                .thenAccept(request -> request.send(slow::complete));
+        // queued behind the slow request and aborted before it is dispatched
+        CompletableFuture<Request> aborted = rateLimitedHttpClient.newRequest(abortedUrl, HttpMethod.GET, "", null);
+        aborted.cancel(false);
+        CompletableFuture<Request> next = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null);
+        assertFalse(next.isDone());
+
+        slow.get(5, TimeUnit.SECONDS);
+        assertTrue(aborted.isCancelled());
+        assertEquals(TEST_CONTENT, next.get(1, TimeUnit.SECONDS).send().getContentAsString());
+
+        // the slot of the completed request is released, no slot is held by the aborted request
+        CompletableFuture<Request> last = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null);
+        assertEquals(TEST_CONTENT, last.get(1, TimeUnit.SECONDS).send().getContentAsString());
+        rateLimitedHttpClient.shutdown();
+    }
+
+    /**
+     * Simulates a slow and a fast host (the same server addressed by IP and by name) and checks that requests to the
+     * fast host are not delayed by the slow host when the number of concurrent requests per host is limited.
+     */
+    @Test
+    public void testSlowHostDoesNotDelayOtherHosts() {
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withFixedDelay(1000).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo("/fast")).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setMaxConcurrentRequests(1);
+        URI slowUrl = URI.create("http://127.0.0.1:" + port + "/slow");
+        URI fastUrl = URI.create("http://localhost:" + port + "/fast");
+
+        long start = System.currentTimeMillis();
+        Map<String, Long> completionTimes = new ConcurrentHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            String slowKey = "slow" + i;
+            rateLimitedHttpClient.newRequest(slowUrl, HttpMethod.GET, "", null).thenAccept(request -> request
+                    .send(result -> completionTimes.put(slowKey, System.currentTimeMillis() - start)));
+            String fastKey = "fast" + i;
+            rateLimitedHttpClient.newRequest(fastUrl, HttpMethod.GET, "", null).thenAccept(request -> request
+                    .send(result -> completionTimes.put(fastKey, System.currentTimeMillis() - start)));
+        }
+
+        waitForAssert(() -> assertEquals(6, completionTimes.size()), 10000, 100);
+        rateLimitedHttpClient.shutdown();
+
+        // requests to the slow host are sent one after another, the fast host is not affected
+        assertThat(Objects.requireNonNull(completionTimes.get("slow2")).intValue(), greaterThanOrEqualTo(3000));
+        for (int i = 0; i < 3; i++) {
+            assertThat(Objects.requireNonNull(completionTimes.get("fast" + i)).intValue(), lessThan(1000));
+        }
+    }
+
     private void doLimitTest(int setDelay, List<Boolean> config) {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
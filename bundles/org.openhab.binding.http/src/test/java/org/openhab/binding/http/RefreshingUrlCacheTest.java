@@ -13,7 +13,11 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
@@ -43,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.openhab.binding.http.internal.http.HttpResponseCache;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
@@ -245,6 +250,71 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testConditionalRequestNotModified() {
+        String location = TEST_LOCATION + "/conditional";
+        stubFor(get(urlEqualTo(location)).withHeader("If-None-Match", absent())
+                .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(location)).withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+        url = thingConfig.baseURL + location;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        waitForAssert(() -> assertEquals(3, contentWrappers.size()));
+        urlCache.stop();
+
+        // the content of the first response is used for the "not modified" responses
+        verify(statusListener, never()).onHttpError(any());
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+        assertTrue(urlCache.getNotModifiedCount() >= 2);
+        assertEquals(1, findAll(getRequestedFor(urlEqualTo(location)).withHeader("If-None-Match", absent())).size());
+    }
+
+    @Test
+    public void testUnchangedContentIsSkipped() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchangedContent = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        waitForAssert(() -> assertTrue(urlCache.getUnchangedCount() >= 2));
+        urlCache.stop();
+
+        assertEquals(1, contentWrappers.size());
+    }
+
+    @Test
+    public void testRequestIsSharedBetweenThings() {
+        String location = TEST_LOCATION + "/shared";
+        stubFor(get(urlEqualTo(location)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        url = thingConfig.baseURL + location;
+        thingConfig.refresh = 2;
+
+        HttpResponseCache responseCache = new HttpResponseCache();
+        List<@Nullable ChannelHandlerContent> otherContentWrappers = new CopyOnWriteArrayList<>();
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT, responseCache);
+        RefreshingUrlCache otherUrlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig,
+                TEST_CONTENT, null, statusListener, false, responseCache);
+        otherUrlCache.addConsumer(otherContentWrappers::add);
+        otherUrlCache.start(scheduler, thingConfig.refresh);
+
+        waitForAssert(() -> {
+            assertTrue(contentWrappers.size() >= 2);
+            assertTrue(otherContentWrappers.size() >= 2);
+        });
+        urlCache.stop();
+        otherUrlCache.stop();
+
+        // both things were updated, but only one request was sent per refresh cycle
+        int requests = findAll(getRequestedFor(urlEqualTo(location))).size();
+        assertTrue(requests < contentWrappers.size() + otherContentWrappers.size());
+        assertTrue(urlCache.getSharedResponseCount() + otherUrlCache.getSharedResponseCount() > 0);
+        assertTrue(otherContentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
@@ -252,8 +322,19 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
      * @return the cache object
      */
     private RefreshingUrlCache getUrlCache(String content) {
+        return getUrlCache(content, new HttpResponseCache());
+    }
+
+    /**
+     * helper method to create a {@link RefreshingUrlCache} with a shared response cache and add a test listener
+     *
+     * @param content HTTP content
+     * @param responseCache the shared response cache
+     * @return the cache object
+     */
+    private RefreshingUrlCache getUrlCache(String content, HttpResponseCache responseCache) {
         RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, content, null,
-                statusListener);
+                statusListener, false, responseCache);
         urlCache.addConsumer(contentWrappers::add);
         urlCache.start(scheduler, thingConfig.refresh);
         return urlCache;
@@ -37,6 +37,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -44,6 +45,8 @@ import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -97,6 +100,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
@@ -532,6 +536,18 @@ public class Clip2Bridge implements Closeable {
         }
     }
 
+    /**
+     * A PUT request which is waiting to be sent, and into which subsequent requests for the same resource are merged.
+     */
+    private static class PendingPut {
+        private final JsonObject request;
+        private final CompletableFuture<Resources> result = new CompletableFuture<>();
+
+        PendingPut(JsonObject request) {
+            this.request = request;
+        }
+    }
+
     private static final Logger LOGGER = LoggerFactory.getLogger(Clip2Bridge.class);
 
     private static final String APPLICATION_ID = "org-openhab-binding-hue-clip2";
@@ -552,6 +568,13 @@ public class Clip2Bridge implements Closeable {
 
     private static final ResourceReference BRIDGE = new ResourceReference().setType(ResourceType.BRIDGE);
 
+    /**
+     * Fields of a PUT request which describe the target state of a light, so that a pending request containing only
+     * these fields can be merged with a subsequent request for the same resource.
+     */
+    private static final Set<String> COALESCABLE_FIELDS = Set.of("type", "id", "on", "dimming", "color",
+            "color_temperature", "dynamics");
+
     /**
      * Enum of HTTP protocols.
      */
@@ -728,6 +751,9 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final Map<String, PendingPut> pendingPuts = new HashMap<>();
+    private final AtomicInteger putQueueDepth = new AtomicInteger();
+    private final AtomicLong coalescedPutCount = new AtomicLong();
 
     private boolean recreatingSession;
     private boolean closing;
@@ -1293,19 +1319,58 @@ public class Clip2Bridge implements Closeable {
      * calls, and to prevent too frequent calls on the Hue bridge server. Also uses a SessionSynchronizer to delay
      * accessing the session while it is being recreated.
      *
+     * While a request which only sets the state of a light is waiting for the Throttler, subsequent such requests for
+     * the same resource are merged into it, so e.g. brightness and color commands sent at the same time cause a single
+     * request to the bridge.
+     *
      * @param resource the resource to put.
      * @return the resource, which may contain errors.
      * @throws ApiException if something fails.
      * @throws InterruptedException
      */
     public Resources putResource(Resource resource) throws ApiException, InterruptedException {
+        long startTime = System.nanoTime();
+        String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
+        JsonObject request = jsonParser.toJsonTree(resource).getAsJsonObject();
+        boolean coalescable = request.keySet().stream().allMatch(COALESCABLE_FIELDS::contains);
+        PendingPut pendingPut = new PendingPut(request);
+        PendingPut queuedPut;
+        synchronized (pendingPuts) {
+            queuedPut = coalescable ? pendingPuts.get(url) : null;
+            if (queuedPut != null) {
+                mergeRequest(queuedPut.request, request);
+            } else if (coalescable) {
+                pendingPuts.put(url, pendingPut);
+            }
+        }
+        if (queuedPut != null) {
+            coalescedPutCount.incrementAndGet();
+            LOGGER.trace("PUT {} merged into pending request >> {}", url, request);
+            return awaitPendingPut(queuedPut);
+        }
+        int queueDepth = putQueueDepth.incrementAndGet();
+        try {
+            return putResourceImpl(url, pendingPut);
+        } finally {
+            putQueueDepth.decrementAndGet();
+            LOGGER.debug("PUT {} completed in {} ms, queue depth {}, {} requests merged in total", url,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), queueDepth,
+                    coalescedPutCount.get());
+        }
+    }
+
+    private Resources putResourceImpl(String url, PendingPut pendingPut) throws ApiException, InterruptedException {
         Stream stream = null;
         try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS);
                 SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
+            String requestJson;
+            synchronized (pendingPuts) {
+                // from now on subsequent requests have to be sent separately
+                pendingPuts.remove(url, pendingPut);
+                requestJson = jsonParser.toJson(pendingPut.request);
+            }
             Session session = getSession();
-            String requestJson = jsonParser.toJson(resource);
             ByteBuffer requestBytes = ByteBuffer.wrap(requestJson.getBytes(StandardCharsets.UTF_8));
-            String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
             HeadersFrame headers = prepareHeaders(url, MediaType.APPLICATION_JSON, "PUT", requestBytes.capacity(),
                     MediaType.APPLICATION_JSON);
             LOGGER.trace("PUT {} {}/2 >> {}", url, HttpProtocol.HTTPS, requestJson);
@@ -1330,18 +1395,57 @@ public class Clip2Bridge implements Closeable {
                 throw new ApiException("Response payload is empty");
             }
             try {
-                return Objects.requireNonNull(jsonParser.fromJson(contentJson, Resources.class));
+                Resources resources = Objects.requireNonNull(jsonParser.fromJson(contentJson, Resources.class));
+                pendingPut.result.complete(resources);
+                return resources;
             } catch (JsonParseException e) {
                 LOGGER.debug("putResource() parsing error json:{}", contentJson, e);
                 throw new ApiException("Parsing error", e);
             }
         } catch (ExecutionException | TimeoutException e) {
-            throw new ApiException("Error sending PUT request", e);
+            ApiException apiException = new ApiException("Error sending PUT request", e);
+            pendingPut.result.completeExceptionally(apiException);
+            throw apiException;
+        } catch (ApiException | InterruptedException | RuntimeException e) {
+            pendingPut.result.completeExceptionally(e);
+            throw e;
         } finally {
+            synchronized (pendingPuts) {
+                // also if the request failed before it was sent, so that subsequent requests don't merge into it
+                pendingPuts.remove(url, pendingPut);
+            }
             closeStream(stream);
         }
     }
 
+    private Resources awaitPendingPut(PendingPut pendingPut) throws ApiException, InterruptedException {
+        try {
+            return pendingPut.result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiException apiException) {
+                throw apiException;
+            }
+            throw new ApiException("Error sending PUT request", e);
+        }
+    }
+
+    /**
+     * Merge a subsequent request into a pending request, whereby the subsequent values take precedence.
+     *
+     * @param pending the pending request, which is modified.
+     * @param subsequent the subsequent request.
+     */
+    private static void mergeRequest(JsonObject pending, JsonObject subsequent) {
+        // color and color temperature are mutually exclusive, the latest one wins
+        if (subsequent.has("color")) {
+            pending.remove("color_temperature");
+        }
+        if (subsequent.has("color_temperature")) {
+            pending.remove("color");
+        }
+        subsequent.entrySet().forEach(entry -> pending.add(entry.getKey(), entry.getValue()));
+    }
+
     /**
      * Close and re-open the session. Called when the server sends a GO_AWAY message. Acquires a SessionSynchronizer
      * 'write' lock to ensure single thread access while the new session is being created. Therefore it waits for any
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -68,6 +69,8 @@ public class EventFilterHandler extends BaseThingHandler implements CalendarUpda
     private final List<ResultChannelSet> resultChannels;
     private final TimeZoneProvider tzProvider;
     private @Nullable ScheduledFuture<?> updateFuture;
+    // the text filter of the last update, reused while the configuration is unchanged
+    private @Nullable EventTextFilter lastTextFilter;
 
     public EventFilterHandler(Thing thing, TimeZoneProvider tzProvider) {
         super(thing);
@@ -298,7 +301,16 @@ public class EventFilterHandler extends BaseThingHandler implements CalendarUpda
                         EventTextFilter.Field textFilterField = EventTextFilter.Field.valueOf(textEventField);
                         EventTextFilter.Type textFilterType = EventTextFilter.Type.valueOf(textValueType);
 
-                        eventTextFilter = new EventTextFilter(textFilterField, textFilterValue, textFilterType);
+                        eventTextFilter = lastTextFilter;
+                        if (eventTextFilter == null || eventTextFilter.field != textFilterField
+                                || eventTextFilter.type != textFilterType
+                                || !eventTextFilter.value.equals(textFilterValue)) {
+                            eventTextFilter = new EventTextFilter(textFilterField, textFilterValue, textFilterType);
+                            lastTextFilter = eventTextFilter;
+                        }
+                    } catch (PatternSyntaxException e2) {
+                        throw new ConfigBrokenException("textEventValue '" + e2.getPattern()
+                                + "' is not a valid regular expression: " + e2.getDescription());
                     } catch (IllegalArgumentException e2) {
                         throw new ConfigBrokenException("textEventField or textValueType are not set properly.");
                     }
@@ -19,15 +19,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.icalendar.internal.logic.EventTextFilter.Type;
 
 import biweekly.ICalendar;
 import biweekly.component.VEvent;
@@ -66,7 +65,17 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     private static final Duration ONE_DAY = Duration.ofDays(1).minusNanos(1);
+    // the occurrence index covers at most this range, queries beyond it scan all events
+    private static final Duration MAX_INDEX_RANGE = Duration.ofDays(3 * 366);
+    private static final Duration NEXT_EVENT_LOOKAHEAD = Duration.ofDays(7);
+
     private final ICalendar usedCalendar;
+    private final List<VEvent> positiveEvents = new ArrayList<>();
+    private final List<VEvent> negativeEvents = new ArrayList<>();
+    private final Duration maximumEventLength;
+
+    /* All access must be guarded by "this" */
+    private @Nullable OccurrenceIndex occurrenceIndex;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -76,10 +85,19 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+        classifyEvents();
+        Duration maximumLength = Duration.ZERO;
+        for (final VEvent positiveEvent : positiveEvents) {
+            final Duration length = getEventLength(positiveEvent);
+            if (length != null && length.compareTo(maximumLength) > 0) {
+                maximumLength = length;
+            }
+        }
+        this.maximumEventLength = maximumLength;
     }
 
     @Override
-    public @Nullable Event getCurrentEvent(Instant instant) {
+    public synchronized @Nullable Event getCurrentEvent(Instant instant) {
         final VEventWPeriod currentComponentWPeriod = this.getCurrentComponentWPeriod(instant);
         if (currentComponentWPeriod == null) {
             return null;
@@ -89,23 +107,47 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     }
 
     @Override
-    public List<Event> getJustBegunEvents(Instant frameBegin, Instant frameEnd) {
+    public synchronized List<Event> getJustBegunEvents(Instant frameBegin, Instant frameEnd) {
         return this.getVEventWPeriodsBetween(frameBegin, frameEnd, 0, EventTimeFilter.searchByStart()).stream()
                 .map(VEventWPeriod::toEvent).collect(Collectors.toList());
     }
 
     @Override
-    public List<Event> getJustEndedEvents(Instant frameBegin, Instant frameEnd) {
+    public synchronized List<Event> getJustEndedEvents(Instant frameBegin, Instant frameEnd) {
         return this.getVEventWPeriodsBetween(frameBegin, frameEnd, 0, EventTimeFilter.searchByJustEnded()).stream()
                 .map(VEventWPeriod::toEvent).collect(Collectors.toList());
     }
 
     @Override
-    public @Nullable Event getNextEvent(Instant instant) {
+    public synchronized @Nullable Event getNextEvent(Instant instant) {
+        Instant lookahead = instant.plus(NEXT_EVENT_LOOKAHEAD);
+        while (true) {
+            final OccurrenceIndex index = getOccurrenceIndex(instant, lookahead);
+            if (index == null) {
+                return scanForNextEvent(instant);
+            }
+            final List<VEventWPeriod> occurrences = index.occurrences;
+            for (int i = index.indexOf(instant); i < occurrences.size(); i++) {
+                final VEventWPeriod occurrence = occurrences.get(i);
+                if (occurrence.hasLength && occurrence.start.isAfter(instant)) {
+                    return occurrence.toEvent();
+                }
+            }
+            if (index.isExhausted()) {
+                return null;
+            }
+            lookahead = lookahead.plus(Duration.between(instant, lookahead));
+        }
+    }
+
+    /**
+     * Finds the next event after the given instant by iterating the occurrences of all events.
+     *
+     * @param instant The Instant after which the next event should be searched.
+     * @return The next event or null if there is none.
+     */
+    private @Nullable Event scanForNextEvent(Instant instant) {
         final Collection<VEventWPeriod> candidates = new ArrayList<>();
-        final Collection<VEvent> negativeEvents = new ArrayList<>();
-        final Collection<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
         for (final VEvent currentEvent : positiveEvents) {
             final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
             final Duration duration = getEventLength(currentEvent);
@@ -138,27 +180,20 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     }
 
     @Override
-    public boolean isEventPresent(Instant instant) {
+    public synchronized boolean isEventPresent(Instant instant) {
         return (this.getCurrentComponentWPeriod(instant) != null);
     }
 
     @Override
-    public List<Event> getFilteredEventsBetween(Instant begin, Instant end, EventTimeFilter eventTimeFilter,
-            @Nullable EventTextFilter eventTextFilter, int maximumCount) {
+    public synchronized List<Event> getFilteredEventsBetween(Instant begin, Instant end,
+            EventTimeFilter eventTimeFilter, @Nullable EventTextFilter eventTextFilter, int maximumCount) {
         List<VEventWPeriod> candidates = this.getVEventWPeriodsBetween(begin, end, maximumCount, eventTimeFilter);
         final List<Event> results = new ArrayList<>(candidates.size());
 
-        if (eventTextFilter != null) {
-            Pattern filterPattern;
-            if (eventTextFilter.type == Type.TEXT) {
-                filterPattern = Pattern.compile(".*" + Pattern.quote(eventTextFilter.value) + ".*",
-                        Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
-            } else {
-                filterPattern = Pattern.compile(eventTextFilter.value);
-            }
-
+        final EventTextFilter textFilter = eventTextFilter;
+        if (textFilter != null) {
             Class<? extends TextProperty> propertyClass;
-            switch (eventTextFilter.field) {
+            switch (textFilter.field) {
                 case SUMMARY:
                     propertyClass = Summary.class;
                     break;
@@ -181,7 +216,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             List<VEventWPeriod> filteredCandidates = candidates.stream().filter(current -> {
                 List<? extends TextProperty> properties = current.vEvent.getProperties(propertyClass);
                 for (TextProperty prop : properties) {
-                    if (filterPattern.matcher(prop.getValue()).matches()) {
+                    if (textFilter.matches(prop.getValue())) {
                         return true;
                     }
                 }
@@ -210,10 +245,47 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      */
     private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
             EventTimeFilter eventTimeFilter) {
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final Instant searchFrom = eventTimeFilter.searchFrom(frameBegin, maximumEventLength);
+        // no filter accepts events starting after the end of the frame
+        final OccurrenceIndex index = getOccurrenceIndex(searchFrom, frameEnd.plusNanos(1));
+        if (index == null) {
+            return scanVEventWPeriodsBetween(frameBegin, frameEnd, maximumPerSeries, eventTimeFilter);
+        }
+
+        final int[] foundInSeries = new int[positiveEvents.size()];
+        final List<VEventWPeriod> eventList = new ArrayList<>();
+        final List<VEventWPeriod> occurrences = index.occurrences;
+        for (int i = index.indexOf(searchFrom); i < occurrences.size(); i++) {
+            final VEventWPeriod occurrence = occurrences.get(i);
+            if (occurrence.start.isAfter(frameEnd)) {
+                break;
+            }
+            final Duration duration = Duration.between(occurrence.start, occurrence.end);
+            if (eventTimeFilter.eventAfterFrame(frameEnd, occurrence.start, duration)
+                    || eventTimeFilter.eventBeforeFrame(frameBegin, occurrence.start, duration)) {
+                continue;
+            }
+            if (maximumPerSeries == 0 || foundInSeries[occurrence.series] < maximumPerSeries) {
+                foundInSeries[occurrence.series]++;
+                eventList.add(occurrence);
+            }
+        }
+        // same order as iterating the events one after another
+        eventList.sort(Comparator.comparingInt((VEventWPeriod o) -> o.series).thenComparing(o -> o.start));
+        return eventList;
+    }
 
+    /**
+     * Finds events which begin in the given frame by iterating the occurrences of all events.
+     *
+     * @param frameBegin Begin of the frame where to search events.
+     * @param frameEnd End of the time frame where to search events.
+     * @param maximumPerSeries Limit the results per series. Set to 0 for no limit.
+     * @param eventTimeFilter Strategy that decides which events should be considered in the time frame.
+     * @return All events which begin in the time frame.
+     */
+    private List<VEventWPeriod> scanVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
+            EventTimeFilter eventTimeFilter) {
         final List<VEventWPeriod> eventList = new ArrayList<>();
         for (final VEvent positiveEvent : positiveEvents) {
             final DateIterator positiveBeginDates = getRecurredEventDateIterator(positiveEvent);
@@ -258,11 +330,8 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     /**
      * Classifies events into positive and negative ones.
-     *
-     * @param positiveEvents A List where to add positive ones.
-     * @param negativeEvents A List where to add negative ones.
      */
-    private void classifyEvents(Collection<VEvent> positiveEvents, Collection<VEvent> negativeEvents) {
+    private void classifyEvents() {
         for (final VEvent currentEvent : usedCalendar.getEvents()) {
             final Status eventStatus = currentEvent.getStatus();
             boolean positive = (eventStatus == null || (eventStatus.isTentative() || eventStatus.isConfirmed()));
@@ -285,10 +354,39 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
      * @return A VEventWPeriod describing the event or null if there is none.
      */
     private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+        final Instant searchFrom = instant.minus(maximumEventLength);
+        final OccurrenceIndex index = getOccurrenceIndex(searchFrom, instant);
+        if (index == null) {
+            return scanForCurrentComponentWPeriod(instant);
+        }
+
+        VEventWPeriod earliestEndingEvent = null;
+        final List<VEventWPeriod> occurrences = index.occurrences;
+        for (int i = index.indexOf(searchFrom); i < occurrences.size(); i++) {
+            final VEventWPeriod occurrence = occurrences.get(i);
+            if (!occurrence.start.isBefore(instant)) {
+                break;
+            }
+            if (!occurrence.hasLength || !occurrence.end.isAfter(instant)) {
+                continue;
+            }
+            // on equal ends the event found first when iterating the events one after another wins
+            if (earliestEndingEvent == null || occurrence.end.isBefore(earliestEndingEvent.end)
+                    || (occurrence.end.equals(earliestEndingEvent.end)
+                            && occurrence.series < earliestEndingEvent.series)) {
+                earliestEndingEvent = occurrence;
+            }
+        }
+        return earliestEndingEvent;
+    }
 
+    /**
+     * Searches for a current event at given Instant by iterating the occurrences of all events.
+     *
+     * @param instant The Instant to use for finding events.
+     * @return A VEventWPeriod describing the event or null if there is none.
+     */
+    private @Nullable VEventWPeriod scanForCurrentComponentWPeriod(Instant instant) {
         VEventWPeriod earliestEndingEvent = null;
 
         for (final VEvent currentEvent : positiveEvents) {
@@ -318,6 +416,29 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return earliestEndingEvent;
     }
 
+    /**
+     * Returns the occurrence index covering the given range. The index is created on first use and extended as
+     * required. It is created again from the start of the range if the range starts before the index or ends beyond
+     * its maximum range, e.g. when the time has moved on since the index was created.
+     *
+     * @param from The earliest start of an occurrence that is needed.
+     * @param to The end of the range (exclusive) for starts of occurrences that are needed.
+     * @return The index or null if the range is too large for indexing.
+     */
+    private @Nullable OccurrenceIndex getOccurrenceIndex(Instant from, Instant to) {
+        OccurrenceIndex index = occurrenceIndex;
+        if (index == null || from.isBefore(index.start)
+                || Duration.between(index.start, to).compareTo(MAX_INDEX_RANGE) > 0) {
+            if (Duration.between(from, to).compareTo(MAX_INDEX_RANGE) > 0) {
+                return null;
+            }
+            index = new OccurrenceIndex(from);
+            occurrenceIndex = index;
+        }
+        index.extendTo(to);
+        return index;
+    }
+
     /**
      * Finds a duration of the event.
      *
@@ -406,6 +527,118 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         return false;
     }
 
+    /**
+     * The occurrences of all positive events, sorted by start, from a fixed start up to an end which is moved forward
+     * when later occurrences are requested. Countered occurrences are not part of the index.
+     *
+     * @author Contributors to the openHAB project - Initial contribution
+     */
+    private class OccurrenceIndex {
+        final Instant start;
+        final List<VEventWPeriod> occurrences = new ArrayList<>();
+        private final List<Series> series = new ArrayList<>();
+        private Instant end;
+
+        OccurrenceIndex(Instant start) {
+            this.start = start;
+            this.end = start;
+            for (int i = 0; i < positiveEvents.size(); i++) {
+                final VEvent positiveEvent = positiveEvents.get(i);
+                final DateIterator startDates = getRecurredEventDateIterator(positiveEvent);
+                startDates.advanceTo(Date.from(start));
+                series.add(new Series(i, positiveEvent, getEventLength(positiveEvent), startDates));
+            }
+        }
+
+        /**
+         * Adds all occurrences starting before the given instant.
+         */
+        void extendTo(Instant to) {
+            if (!to.isAfter(end)) {
+                return;
+            }
+            final List<VEventWPeriod> added = new ArrayList<>();
+            for (final Series current : series) {
+                Instant next;
+                while ((next = current.peek()) != null && next.isBefore(to)) {
+                    current.skip();
+                    // biweekly is not as precise as java.time. An exact check is required.
+                    if (next.isBefore(start)) {
+                        continue;
+                    }
+                    final Uid eventUid = current.vEvent.getUid();
+                    if (eventUid == null || !isCounteredBy(next, eventUid, negativeEvents)) {
+                        final Duration length = current.length;
+                        final Instant end = next.plus(length == null ? Duration.ZERO : length);
+                        added.add(new VEventWPeriod(current.vEvent, next, end, current.position, length != null));
+                    }
+                }
+            }
+            // all new occurrences start after the ones already indexed
+            added.sort(Comparator.comparing((VEventWPeriod o) -> o.start).thenComparingInt(o -> o.series));
+            occurrences.addAll(added);
+            end = to;
+        }
+
+        /**
+         * Returns the position of the first occurrence starting at or after the given instant.
+         */
+        int indexOf(Instant instant) {
+            int low = 0;
+            int high = occurrences.size();
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (occurrences.get(middle).start.isBefore(instant)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns true if no event has further occurrences after the indexed ones.
+         */
+        boolean isExhausted() {
+            return series.stream().allMatch(current -> current.peek() == null);
+        }
+    }
+
+    /**
+     * The state of iterating the occurrences of a single event for the {@link OccurrenceIndex}.
+     *
+     * @author Contributors to the openHAB project - Initial contribution
+     */
+    private static class Series {
+        final int position;
+        final VEvent vEvent;
+        final @Nullable Duration length;
+        private final DateIterator startDates;
+        private @Nullable Instant next;
+
+        Series(int position, VEvent vEvent, @Nullable Duration length, DateIterator startDates) {
+            this.position = position;
+            this.vEvent = vEvent;
+            this.length = length;
+            this.startDates = startDates;
+        }
+
+        @Nullable
+        Instant peek() {
+            Instant current = next;
+            if (current == null && startDates.hasNext()) {
+                current = startDates.next().toInstant();
+                next = current;
+            }
+            return current;
+        }
+
+        void skip() {
+            next = null;
+        }
+    }
+
     /**
      * A Class describing an event together with a start and end instant.
      *
@@ -415,11 +648,20 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         final VEvent vEvent;
         final Instant start;
         final Instant end;
+        // position of the event in the calendar, only set for indexed occurrences
+        final int series;
+        final boolean hasLength;
 
         public VEventWPeriod(VEvent vEvent, Instant start, Instant end) {
+            this(vEvent, start, end, 0, true);
+        }
+
+        public VEventWPeriod(VEvent vEvent, Instant start, Instant end, int series, boolean hasLength) {
             this.vEvent = vEvent;
             this.start = start;
             this.end = end;
+            this.series = series;
+            this.hasLength = hasLength;
         }
 
         public Event toEvent() {
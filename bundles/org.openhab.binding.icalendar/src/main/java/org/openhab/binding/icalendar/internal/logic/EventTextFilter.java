@@ -12,10 +12,12 @@
  */
 package org.openhab.binding.icalendar.internal.logic;
 
+import java.util.regex.Pattern;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * Transport class for a simple text filter.
+ * Transport class for a simple text filter. The pattern is compiled once on creation.
  *
  * @author Michael Wodniok - Initial contribution
  */
@@ -34,13 +36,37 @@ public class EventTextFilter {
         LOCATION
     }
 
-    public Field field;
-    public String value;
-    public Type type;
+    public final Field field;
+    public final String value;
+    public final Type type;
+    private final Pattern pattern;
 
+    /**
+     * Creates a new filter.
+     *
+     * @param field The field of the event to filter.
+     * @param value The text or regular expression the field has to match.
+     * @param type The type of the value.
+     * @throws java.util.regex.PatternSyntaxException If the value is no valid regular expression.
+     */
     public EventTextFilter(Field field, String value, Type type) {
         this.field = field;
         this.value = value;
         this.type = type;
+        if (type == Type.TEXT) {
+            pattern = Pattern.compile(".*" + Pattern.quote(value) + ".*", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+        } else {
+            pattern = Pattern.compile(value);
+        }
+    }
+
+    /**
+     * Checks whether a text matches this filter.
+     *
+     * @param text The text to check.
+     * @return True if the text matches.
+     */
+    public boolean matches(String text) {
+        return pattern.matcher(text).matches();
     }
 }
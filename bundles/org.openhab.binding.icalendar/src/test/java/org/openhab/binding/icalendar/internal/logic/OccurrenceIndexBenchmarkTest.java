@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.icalendar.internal.logic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the queries of a day of calendar refreshes against a calendar with thousands of events, with weekly series
+ * starting years before the queried day.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class OccurrenceIndexBenchmarkTest {
+    private static final DateTimeFormatter ICAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final int SERIES = 2000;
+    private static final int SINGLE_EVENTS = 3000;
+    // a Monday, like the start of all series
+    private static final Instant DAY = Instant.parse("2024-03-04T00:00:00Z");
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    private @NonNullByDefault({}) AbstractPresentableCalendar calendar;
+
+    @BeforeEach
+    public void setUp() throws IOException, CalendarException {
+        StringBuilder ics = new StringBuilder("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//openHAB//benchmark//EN\r\n");
+        // weekly series, one every 5 minutes over the whole week
+        Instant seriesStart = Instant.parse("2020-01-06T00:00:00Z");
+        for (int i = 0; i < SERIES; i++) {
+            appendEvent(ics, "series-" + i, "Series " + i, seriesStart.plus(Duration.ofMinutes(5L * i)),
+                    Duration.ofMinutes(30), "FREQ=WEEKLY");
+        }
+        // single events, one per hour
+        Instant singleStart = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < SINGLE_EVENTS; i++) {
+            appendEvent(ics, "single-" + i, "Single " + i, singleStart.plus(Duration.ofHours(i)),
+                    Duration.ofMinutes(15), null);
+        }
+        ics.append("END:VCALENDAR\r\n");
+        calendar = AbstractPresentableCalendar
+                .create(new ByteArrayInputStream(ics.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testRefreshesOfOneDay() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            int begunEvents = 0;
+            Instant previous = DAY;
+            for (Instant now = DAY.plus(REFRESH_INTERVAL); !now.isAfter(DAY.plus(Duration.ofDays(1))); now = now
+                    .plus(REFRESH_INTERVAL)) {
+                // the queries of the calendar handler
+                assertTrue(calendar.isEventPresent(now));
+                assertNotNull(calendar.getCurrentEvent(now));
+                assertNotNull(calendar.getNextEvent(now));
+                calendar.getJustEndedEvents(previous, now);
+                begunEvents += calendar.getJustBegunEvents(previous, now).size();
+                // the queries of an event filter
+                List<Event> singleEvents = calendar.getFilteredEventsBetween(DAY, DAY.plus(Duration.ofDays(1)),
+                        new EventTextFilter(EventTextFilter.Field.SUMMARY, "single", EventTextFilter.Type.TEXT),
+                        100);
+                assertEquals(24, singleEvents.size());
+                assertEquals(10, calendar.getFilteredEventsBetween(now, now.plus(Duration.ofHours(1)),
+                        EventTimeFilter.searchByActive(), null, 10).size());
+                previous = now;
+            }
+            // 288 series and 24 single events begin on that day
+            assertEquals(288 + 24, begunEvents);
+        });
+    }
+
+    @Test
+    public void testIndexedResults() {
+        Instant instant = DAY.plus(Duration.ofMinutes(10));
+        Event current = calendar.getCurrentEvent(instant);
+        assertNotNull(current);
+        assertEquals("Single 1512", current.title);
+
+        Event next = calendar.getNextEvent(instant);
+        assertNotNull(next);
+        assertEquals("Series 3", next.title);
+        assertEquals(DAY.plus(Duration.ofMinutes(15)), next.start);
+
+        // an earlier query than all before rebuilds the index
+        Event old = calendar.getNextEvent(Instant.parse("2021-01-04T00:00:00Z"));
+        assertNotNull(old);
+        assertEquals("Series 1", old.title);
+
+        // too far after the start of the rebuilt index, the index is rebuilt from the start of the query
+        List<Event> begun = calendar.getJustBegunEvents(DAY, DAY.plus(Duration.ofMinutes(30)));
+        assertEquals(List.of("Series 0", "Series 1", "Series 2", "Series 3", "Series 4", "Series 5", "Single 1512"),
+                begun.stream().map(e -> e.title).toList());
+
+        // far beyond any indexed range
+        Event future = calendar.getNextEvent(Instant.parse("2035-01-01T00:00:00Z"));
+        assertNotNull(future);
+        assertTrue(future.title.startsWith("Series "));
+
+        // the index follows queries moving forward in time
+        Instant later = DAY.plus(Duration.ofDays(4 * 365 + 1));
+        for (Instant now = DAY; !now.isAfter(later); now = now.plus(Duration.ofDays(91))) {
+            Event nextSeries = calendar.getNextEvent(now.plus(Duration.ofMinutes(1)));
+            assertNotNull(nextSeries);
+            assertEquals(now.plus(Duration.ofMinutes(5)), nextSeries.start);
+        }
+    }
+
+    private static void appendEvent(StringBuilder ics, String uid, String summary, Instant start, Duration duration,
+            @Nullable String rule) {
+        ics.append("BEGIN:VEVENT\r\n");
+        ics.append("UID:").append(uid).append("\r\n");
+        ics.append("DTSTAMP:20240101T000000Z\r\n");
+        ics.append("DTSTART:").append(ICAL_FORMAT.format(start)).append("\r\n");
+        ics.append("DTEND:").append(ICAL_FORMAT.format(start.plus(duration))).append("\r\n");
+        if (rule != null) {
+            ics.append("RRULE:").append(rule).append("\r\n");
+        }
+        ics.append("SUMMARY:").append(summary).append("\r\n");
+        ics.append("END:VEVENT\r\n");
+    }
+}
@@ -15,10 +15,11 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -107,8 +108,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners indexed by the group addresses they are interested in, and the addresses they were registered with
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new ConcurrentHashMap<>();
+    private final ReadDatapointQueue readDatapoints = new ReadDatapointQueue();
+    // time (System.nanoTime()) a value was last seen on the bus for a handled group address
+    private final Map<GroupAddress, Long> lastValueReceived = new ConcurrentHashMap<>();
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -313,6 +318,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             tmpLink.removeLinkListener(this);
         }
         readDatapoints.clear();
+        lastValueReceived.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -342,10 +348,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
         boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners != null) {
+            for (GroupAddressListener listener : listeners) {
+                if (listener.listensTo(destination)) {
+                    isHandled = true;
+                    knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0,
+                            TimeUnit.SECONDS);
+                }
             }
         }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
@@ -361,6 +371,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             final String key = String.format("%2d/%1d/%3d  %s(%02d)", destination.getMainGroup(),
                     destination.getMiddleGroup(), destination.getSubGroup8(), type, event.getASDU().length);
             commandExtensionData.unknownGA().compute(key, (k, v) -> v == null ? 1 : v + 1);
+        } else if (event.getServiceCode() != 0x00) {
+            // a group write or response carries the current value, so a queued read of the address is obsolete
+            lastValueReceived.put(destination, System.nanoTime());
         }
     }
 
@@ -374,7 +387,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = pollNextDatapoint();
         if (datapoint != null) {
             // TODO #8872: allow write access, currently only listening mode
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
@@ -391,7 +404,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readDatapoints.add(datapoint, false);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -508,24 +521,64 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
+    /**
+     * Take the next data point to read from the queue.
+     *
+     * Data points whose group address received a value from the bus after they were queued are skipped, as reading
+     * them would only load the bus with a telegram returning the value which is already known.
+     *
+     * @return the next data point to read or null if there is none
+     */
+    private @Nullable ReadDatapoint pollNextDatapoint() {
+        ReadDatapoint datapoint;
+        while ((datapoint = readDatapoints.poll()) != null) {
+            Long received = lastValueReceived.get(datapoint.getDatapoint().getMainAddress());
+            if (datapoint.getRetries() > 0 || received == null || received - datapoint.getQueuedAt() < 0) {
+                return datapoint;
             }
+            logger.trace("Skipping read of {}, a value was received after the read was queued",
+                    datapoint.getDatapoint().getMainAddress());
         }
+        return null;
+    }
+
+    @Override
+    public void readDatapoint(Datapoint datapoint) {
+        readDatapoint(datapoint, false);
+    }
+
+    @Override
+    public void readDatapoint(Datapoint datapoint, boolean priority) {
+        readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit), priority);
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (listenerGroupAddresses) {
+            // the group addresses might have changed since the listener was registered last time
+            unregisterGroupAddressListener(listener);
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            listenerGroupAddresses.put(listener, groupAddresses);
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, k -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (listenerGroupAddresses) {
+            Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+            if (groupAddresses == null) {
+                return;
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (k, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
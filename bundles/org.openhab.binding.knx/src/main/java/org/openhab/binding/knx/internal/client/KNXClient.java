@@ -81,6 +81,16 @@ public interface KNXClient {
      */
     void readDatapoint(Datapoint datapoint);
 
+    /**
+     * Schedule the given data point for asynchronous reading.
+     *
+     * Prioritized data points are read before all other queued data points, e.g. for refreshes requested by the user.
+     *
+     * @param datapoint the datapoint
+     * @param priority true if the data point should be read before non-prioritized data points
+     */
+    void readDatapoint(Datapoint datapoint, boolean priority);
+
     /**
      * Write a command to the KNX bus.
      *
@@ -28,11 +28,13 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private final long queuedAt;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.queuedAt = System.nanoTime();
     }
 
     public Datapoint getDatapoint() {
@@ -51,6 +53,15 @@ public class ReadDatapoint {
         return limit;
     }
 
+    /**
+     * Get the time the data point was queued.
+     *
+     * @return the value of {@link System#nanoTime()} when the data point was queued
+     */
+    public long getQueuedAt() {
+        return queuedAt;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
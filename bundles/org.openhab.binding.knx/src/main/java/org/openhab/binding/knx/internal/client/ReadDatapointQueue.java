@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.calimero.GroupAddress;
+
+/**
+ * Queue of data points to be read from the KNX bus, with at most one entry per group address.
+ *
+ * Prioritized read requests, e.g. refreshes requested by the user, are read before all other queued read requests.
+ * Queuing a prioritized read request for a group address which is already queued with normal priority moves it to
+ * the prioritized requests.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class ReadDatapointQueue {
+    private final Map<GroupAddress, ReadDatapoint> prioritized = new LinkedHashMap<>();
+    private final Map<GroupAddress, ReadDatapoint> normal = new LinkedHashMap<>();
+
+    /**
+     * Add a data point to the end of the queue, unless its group address is already queued.
+     *
+     * @param datapoint the data point to read
+     * @param priority true if the data point should be read before all non-prioritized data points
+     * @return true if the data point was added
+     */
+    public synchronized boolean add(ReadDatapoint datapoint, boolean priority) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (prioritized.containsKey(groupAddress)) {
+            return false;
+        }
+        if (priority) {
+            ReadDatapoint queued = normal.remove(groupAddress);
+            prioritized.put(groupAddress, queued != null ? queued : datapoint);
+            return queued == null;
+        }
+        return normal.putIfAbsent(groupAddress, datapoint) == null;
+    }
+
+    /**
+     * Retrieve and remove the next data point to read.
+     *
+     * @return the next data point or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        ReadDatapoint datapoint = poll(prioritized);
+        return datapoint != null ? datapoint : poll(normal);
+    }
+
+    private static @Nullable ReadDatapoint poll(Map<GroupAddress, ReadDatapoint> map) {
+        Iterator<ReadDatapoint> iterator = map.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        ReadDatapoint datapoint = iterator.next();
+        iterator.remove();
+        return datapoint;
+    }
+
+    public synchronized int size() {
+        return prioritized.size() + normal.size();
+    }
+
+    public synchronized void clear() {
+        prioritized.clear();
+        normal.clear();
+    }
+}
@@ -21,8 +21,10 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.HexFormat;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -84,6 +86,15 @@ public class ValueDecoder {
             .compile("(?:\\((?<x>\\d+(?:[,.]\\d+)?) (?<y>\\d+(?:[,.]\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:[,.]\\d+)?)\\s%)?");
     public static final Pattern TSD_SEPARATOR = Pattern.compile("^[0-9]+(?<sep>[,\\.])[0-9][0-9][0-9].*");
 
+    // sub-types of DPT 5 and 7 which are not scaled, i.e. the numeric value is the raw value
+    private static final Set<String> UNSCALED_DPT5 = Set.of("004", "005", "006", "010");
+    private static final Set<String> SCALED_DPT7 = Set.of("003", "004");
+    // DPTs which can be decoded directly, only added after Calimero successfully created a translator for them
+    private static final Map<String, DirectDpt> DIRECT_DPTS = new ConcurrentHashMap<>();
+
+    private record DirectDpt(String mainType, String subType, int length) {
+    }
+
     private static boolean check235001(byte[] data) throws KNXException {
         if (data.length != 6) {
             throw new KNXFormatException("DPT235 broken frame");
@@ -115,14 +126,25 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        DirectDpt directDpt = DIRECT_DPTS.get(dptId);
+        if (directDpt != null && directDpt.length() == data.length) {
+            try {
+                return decodeDirect(directDpt, dptId, data, preferredType);
+            } catch (NumberFormatException e) {
+                LOGGER.info("Couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
+                return null;
+            }
+        }
+        return decodeWithTranslator(dptId, data, preferredType);
+    }
+
+    static @Nullable Type decodeWithTranslator(String dptId, byte[] data, Class<? extends Type> preferredType) {
         try {
-            String value = "";
             String translatorDptId = dptId;
             DPTXlator translator;
             try {
                 translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
                 translator.setData(data);
-                value = translator.getValue();
                 translatorDptId = translator.getType().getID();
             } catch (KNXException e) {
                 // special handling for decoding DPTs not yet supported by Calimero
@@ -132,7 +154,6 @@ public class ValueDecoder {
                     }
                     translator = TranslatorTypes.createTranslator(0, "13.010");
                     translator.setData(data);
-                    value = translator.getValue();
                     dptId = "13.010";
                     translatorDptId = dptId;
                 } else if ("235.61001".equals(dptId)) {
@@ -141,7 +162,6 @@ public class ValueDecoder {
                     }
                     translator = TranslatorTypes.createTranslator(0, "5.006");
                     translator.setData(new byte[] { data[4] });
-                    value = translator.getValue();
                     dptId = "5.006";
                     translatorDptId = dptId;
                 } else if ("0.000".equals(dptId)) {
@@ -171,10 +191,13 @@ public class ValueDecoder {
 
             String mainType = m.group("main");
             String subType = m.group("sub");
+            if (subType != null && id.equals(dptId)) {
+                registerDirectDpt(dptId, mainType, subType);
+            }
 
             switch (mainType) {
                 case "1":
-                    return handleDpt1(subType, translator, preferredType);
+                    return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean(), preferredType);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -184,7 +207,7 @@ public class ValueDecoder {
                     return handleDpt3(subType, translator);
                 case "6":
                     if ("020".equals(subType)) {
-                        return handleStringOrDecimal(data, value, preferredType, 8);
+                        return handleStringOrDecimal(data, translator.getValue(), preferredType, 8);
                     } else {
                         return handleNumericDpt(id, translator, preferredType);
                     }
@@ -196,14 +219,14 @@ public class ValueDecoder {
                     }
                     return handleNumericDpt(id, translator, preferredType);
                 case "10":
-                    return handleDpt10(value);
+                    return handleDpt10(translator.getValue());
                 case "11":
                     return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN, Locale.ROOT)
-                            .format(new SimpleDateFormat(DATE_FORMAT, Locale.ROOT).parse(value)));
+                            .format(new SimpleDateFormat(DATE_FORMAT, Locale.ROOT).parse(translator.getValue())));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
@@ -211,20 +234,21 @@ public class ValueDecoder {
                     return handleDpt19(translator, data);
                 case "20":
                 case "21":
-                    return handleStringOrDecimal(data, value, preferredType, 8);
+                    return handleStringOrDecimal(data, translator.getValue(), preferredType, 8);
                 case "22":
-                    return handleStringOrDecimal(data, value, preferredType, 16);
+                    return handleStringOrDecimal(data, translator.getValue(), preferredType, 16);
                 case "16":
                 case "28":
                 case "250": // Map all combined color transitions to String,
                 case "252": // as no native support is planned.
                 case "253": // Currently only one subtype 2xx.600
                 case "254": // is defined for those DPTs.
-                    return StringType.valueOf(value);
+                    return StringType.valueOf(translator.getValue());
                 case "243": // color translation, fix regional
                 case "249": // settings
                     // workaround for different number formats, this is to fix time>=1000s:
                     // time is last block and may contain . and ,
+                    String value = translator.getValue();
                     int sep = java.lang.Math.max(value.indexOf(" % "), value.indexOf(" K "));
                     String time = value.substring(sep + 3);
                     Matcher mt = TSD_SEPARATOR.matcher(time);
@@ -235,11 +259,11 @@ public class ValueDecoder {
                     value = value.substring(0, sep + 3) + time;
                     return StringType.valueOf(value.replace(',', '.').replace(". ", ", "));
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(translator.getValue(), subType);
                 case "242":
-                    return handleDpt242(value);
+                    return handleDpt242(translator.getValue());
                 case "251":
-                    return handleDpt251(value, subType, preferredType);
+                    return handleDpt251(translator.getValue(), subType, preferredType);
                 default:
                     return handleNumericDpt(id, translator, preferredType);
             }
@@ -253,34 +277,33 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    private static Type handleDpt1(String subType, boolean value, Class<? extends Type> preferredType) {
         return switch (subType) {
-            case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+            case "008" -> value ? UpDownType.DOWN : UpDownType.UP;
             case "009", "019" -> {
                 // default is OpenClosedType (Contact), but it may be mapped to OnOffType as well
                 if (OnOffType.class.equals(preferredType)) {
-                    yield OnOffType.from(translatorBoolean.getValueBoolean());
+                    yield OnOffType.from(value);
                 }
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
 
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
             }
-            case "010" -> translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-            case "022" -> DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+            case "010" -> value ? StopMoveType.MOVE : StopMoveType.STOP;
+            case "022" -> DecimalType.valueOf(value ? "1" : "0");
             default -> {
                 // default is OnOffType (Switch), but it may be mapped to OpenClosedType as well
                 if (OpenClosedType.class.equals(preferredType)) {
-                    yield translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    yield value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
                 }
 
-                yield OnOffType.from(translatorBoolean.getValueBoolean());
+                yield OnOffType.from(value);
             }
         };
     }
@@ -412,25 +435,28 @@ public class ValueDecoder {
             int r = Integer.parseInt(rgb.group("r"));
             int g = Integer.parseInt(rgb.group("g"));
             int b = Integer.parseInt(rgb.group("b"));
-
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+            return handleDpt232(r, g, b, subType);
         }
         LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
         return null;
     }
 
+    private static @Nullable Type handleDpt232(int r, int g, int b, String subType) {
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
+        }
+    }
+
     private static @Nullable Type handleDpt242(String value) {
         Matcher xyY = XYY_PATTERN.matcher(value);
         if (xyY.matches()) {
@@ -501,9 +527,17 @@ public class ValueDecoder {
 
     private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
             throws KNXFormatException {
+        // prevent loss of precision, do not represent 64bit decimal using double
+        Long signedValue = translator instanceof DPTXlator64BitSigned translatorSigned
+                ? translatorSigned.getValueSigned()
+                : null;
+        return handleNumericValue(id, translator.getNumericValue(), signedValue, preferredType);
+    }
+
+    private static @Nullable Type handleNumericValue(String id, double value, @Nullable Long signedValue,
+            Class<? extends Type> preferredType) {
         Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
 
-        double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
@@ -513,9 +547,8 @@ public class ValueDecoder {
             String unit = DPTUnits.getUnitForDpt(id);
             if (unit != null) {
                 try {
-                    if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                        // prevent loss of precision, do not represent 64bit decimal using double
-                        return new QuantityType<>(translatorSigned.getValueSigned() + " " + unit);
+                    if (signedValue != null) {
+                        return new QuantityType<>(signedValue + " " + unit);
                     }
                     return new QuantityType<>(value + " " + unit);
                 } catch (IllegalArgumentException e) {
@@ -528,9 +561,8 @@ public class ValueDecoder {
         }
 
         if (allowedTypes.contains(DecimalType.class)) {
-            if (translator instanceof DPTXlator64BitSigned translatorSigned) {
-                // prevent loss of precision, do not represent 64bit decimal using double
-                return new DecimalType(translatorSigned.getValueSigned());
+            if (signedValue != null) {
+                return new DecimalType(signedValue);
             }
             return new DecimalType(value);
         }
@@ -539,6 +571,44 @@ public class ValueDecoder {
         return null;
     }
 
+    private static void registerDirectDpt(String dptId, String mainType, String subType) {
+        int length = switch (mainType) {
+            case "1" -> 1;
+            case "5" -> UNSCALED_DPT5.contains(subType) ? 1 : 0;
+            case "7" -> SCALED_DPT7.contains(subType) ? 0 : 2;
+            case "14" -> 4;
+            case "232" -> "600".equals(subType) || "60000".equals(subType) ? 3 : 0;
+            default -> 0;
+        };
+        if (length > 0) {
+            DIRECT_DPTS.putIfAbsent(dptId, new DirectDpt(mainType, subType, length));
+        }
+    }
+
+    /**
+     * Decodes the most frequent DPTs directly from the raw data, without creating a Calimero translator and rendering
+     * and parsing the value as string.
+     *
+     * @return the decoded value, the data length has to be checked by the caller
+     */
+    private static @Nullable Type decodeDirect(DirectDpt dpt, String dptId, byte[] data,
+            Class<? extends Type> preferredType) {
+        return switch (dpt.mainType()) {
+            case "1" -> handleDpt1(dpt.subType(), (data[0] & 0x01) != 0, preferredType);
+            case "5" -> handleNumericValue(dptId, data[0] & 0xff, null, preferredType);
+            case "7" -> handleNumericValue(dptId, (data[0] & 0xff) << 8 | (data[1] & 0xff), null, preferredType);
+            case "14" -> {
+                float value = Float.intBitsToFloat(
+                        (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff));
+                // NaN and infinity are validated and rejected by Calimero
+                yield Float.isFinite(value) ? handleNumericValue(dptId, value, null, preferredType)
+                        : decodeWithTranslator(dptId, data, preferredType);
+            }
+            case "232" -> handleDpt232(data[0] & 0xff, data[1] & 0xff, data[2] & 0xff, dpt.subType());
+            default -> null;
+        };
+    }
+
     private static double coerceToRange(double value, double min, double max) {
         return Math.min(Math.max(value, min), max);
     }
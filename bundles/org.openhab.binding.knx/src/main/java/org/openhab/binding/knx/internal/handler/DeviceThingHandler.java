@@ -199,7 +199,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             return;
         }
         if (!knxChannel.isControl()) {
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, true);
         }
     }
 
@@ -207,39 +207,47 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         cancelReadFutures();
         for (KNXChannel knxChannel : knxChannels.values()) {
             if (isLinked(knxChannel.getChannelUID()) && !knxChannel.isControl()) {
-                scheduleRead(knxChannel);
+                scheduleRead(knxChannel, false);
             }
         }
     }
 
-    private void scheduleRead(KNXChannel knxChannel) {
+    /**
+     * Schedule reading the values of a channel.
+     *
+     * @param knxChannel the channel
+     * @param priority true if the values were requested explicitly and should be read before the background reads
+     */
+    private void scheduleRead(KNXChannel knxChannel, boolean priority) {
         List<InboundSpec> readSpecs = knxChannel.getReadSpec();
         for (InboundSpec readSpec : readSpecs) {
-            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT()));
+            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT(), priority));
         }
     }
 
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
+    private void scheduleReadJob(GroupAddress groupAddress, String dpt, boolean priority) {
         if (readInterval > 0) {
             ScheduledFuture<?> future = readFutures.get(groupAddress);
             if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
-                        TimeUnit.SECONDS);
+                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt, false), 0,
+                        readInterval, TimeUnit.SECONDS);
                 readFutures.put(groupAddress, future);
+            } else if (priority) {
+                getScheduler().submit(() -> readDatapoint(groupAddress, dpt, true));
             }
         } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
+            getScheduler().submit(() -> readDatapoint(groupAddress, dpt, priority));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void readDatapoint(GroupAddress groupAddress, String dpt, boolean priority) {
         if (getClient().isConnected()) {
             if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, priority);
         }
     }
 
@@ -248,6 +256,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
@@ -259,7 +272,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         }
         if (command instanceof RefreshType && !knxChannel.isControl()) {
             logger.debug("Refreshing channel '{}'", channelUID);
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, true);
         } else {
             if (CHANNEL_RESET.equals(channelUID.getId())) {
                 if (address != null) {
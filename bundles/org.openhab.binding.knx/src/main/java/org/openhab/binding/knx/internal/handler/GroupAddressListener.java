@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,12 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Get all GroupAddresses the GroupAddressListener is interested in. The client uses them to index its listeners
+     * when the listener is registered, so they must not change without registering the listener again.
+     *
+     * @return the group addresses
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.GroupAddress;
+import io.calimero.datapoint.CommandDP;
+
+/**
+ * Tests for {@link ReadDatapointQueue}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class ReadDatapointQueueTest {
+
+    private static ReadDatapoint readDatapoint(String groupAddress) {
+        try {
+            return new ReadDatapoint(new CommandDP(new GroupAddress(groupAddress), "test", 0, "1.001"), 3);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static @Nullable String next(ReadDatapointQueue queue) {
+        ReadDatapoint datapoint = queue.poll();
+        return datapoint == null ? null : datapoint.getDatapoint().getMainAddress().toString();
+    }
+
+    @Test
+    void deduplicatesGroupAddresses() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        assertTrue(queue.add(readDatapoint("1/2/3"), false));
+        assertFalse(queue.add(readDatapoint("1/2/3"), false));
+        assertTrue(queue.add(readDatapoint("1/2/4"), false));
+        assertEquals(2, queue.size());
+
+        assertEquals("1/2/3", next(queue));
+        assertEquals("1/2/4", next(queue));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void prioritizedReadsComeFirst() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(readDatapoint("1/2/3"), false);
+        queue.add(readDatapoint("1/2/4"), false);
+        queue.add(readDatapoint("1/2/5"), true);
+        // moves the already queued read to the prioritized reads
+        assertFalse(queue.add(readDatapoint("1/2/4"), true));
+        assertFalse(queue.add(readDatapoint("1/2/5"), false));
+        assertEquals(3, queue.size());
+
+        assertEquals("1/2/5", next(queue));
+        assertEquals("1/2/4", next(queue));
+        assertEquals("1/2/3", next(queue));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void clear() {
+        ReadDatapointQueue queue = new ReadDatapointQueue();
+        queue.add(readDatapoint("1/2/3"), false);
+        queue.add(readDatapoint("1/2/4"), true);
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertNull(queue.poll());
+    }
+}
@@ -30,10 +30,15 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import io.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -444,6 +449,44 @@ class DPTTest {
         assertEquals(encoded, "r:" + data[0] + " g:" + data[1] + " b:" + data[2]);
     }
 
+    private static Stream<Object[]> directDecoding() {
+        return Stream.of( //
+                new Object[] { "1.001", new byte[] { 1 }, OnOffType.class }, //
+                new Object[] { "1.001", new byte[] { 0 }, OpenClosedType.class }, //
+                new Object[] { "1.008", new byte[] { 1 }, UpDownType.class }, //
+                new Object[] { "1.009", new byte[] { 1 }, OnOffType.class }, //
+                new Object[] { "5.004", new byte[] { (byte) 255 }, PercentType.class }, //
+                new Object[] { "5.010", new byte[] { (byte) 200 }, DecimalType.class }, //
+                new Object[] { "7.001", new byte[] { 0x12, 0x34 }, DecimalType.class }, //
+                new Object[] { "7.013", new byte[] { (byte) 0xff, (byte) 0xff }, QuantityType.class }, //
+                new Object[] { "14.019", new byte[] { 0x41, (byte) 0xac, 0x00, 0x00 }, QuantityType.class }, //
+                new Object[] { "14.056", new byte[] { (byte) 0xc2, 0x48, (byte) 0x99, (byte) 0x9a },
+                        QuantityType.class }, //
+                new Object[] { "232.600", new byte[] { 123, 45, 67 }, HSBType.class }, //
+                new Object[] { "232.60000", new byte[] { 123, 45, 67 }, HSBType.class });
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void directDecoding(String dpt, byte[] data, Class<? extends Type> preferredType) {
+        Type expected = ValueDecoder.decodeWithTranslator(dpt, data, preferredType);
+        assertNotNull(expected);
+        // the DPT is decoded directly once Calimero successfully created a translator for it
+        assertEquals(expected, ValueDecoder.decode(dpt, data, preferredType));
+        assertEquals(expected, ValueDecoder.decode(dpt, data, preferredType));
+    }
+
+    @Test
+    public void directDecodingNonFinite() {
+        // make sure the DPTs are decoded directly
+        assertNotNull(ValueDecoder.decode("14.000", new byte[] { 0x41, (byte) 0xac, 0x00, 0x00 }, DecimalType.class));
+        assertNotNull(ValueDecoder.decode("14.057", new byte[] { 0x41, (byte) 0xac, 0x00, 0x00 }, DecimalType.class));
+        // NaN and infinity return null and don't throw an exception
+        assertNull(ValueDecoder.decode("14.000", new byte[] { (byte) 0xff, (byte) 0xc0, 0, 0 }, DecimalType.class));
+        assertNull(ValueDecoder.decode("14.000", new byte[] { (byte) 0x7f, (byte) 0x80, 0, 0 }, QuantityType.class));
+        assertNull(ValueDecoder.decode("14.057", new byte[] { (byte) 0xff, (byte) 0x80, 0, 0 }, DecimalType.class));
+    }
+
     @Test
     public void dpt235Decoder() {
         byte[] noActiveEnergy = new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff,
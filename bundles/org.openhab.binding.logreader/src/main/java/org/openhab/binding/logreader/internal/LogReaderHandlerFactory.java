@@ -18,13 +18,15 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.logreader.internal.filereader.FileTailer;
+import org.openhab.binding.logreader.internal.filereader.LogFileWatcher;
+import org.openhab.binding.logreader.internal.filereader.NioFileTailer;
 import org.openhab.binding.logreader.internal.handler.LogHandler;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -32,6 +34,7 @@ import org.osgi.service.component.annotations.Component;
  * handlers.
  *
  * @author Miika Jukka - Initial contribution
+ * @author Contributors to the openHAB project - Share one file watcher across all readers
  */
 @Component(service = ThingHandlerFactory.class, configurationPid = "binding.logreader")
 @NonNullByDefault
@@ -39,6 +42,8 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(THING_READER);
 
+    private final LogFileWatcher fileWatcher = new LogFileWatcher();
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -49,9 +54,15 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_READER)) {
-            return new LogHandler(thing, new FileTailer());
+            return new LogHandler(thing, new NioFileTailer(fileWatcher));
         }
 
         return null;
     }
+
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        fileWatcher.dispose();
+        super.deactivate(componentContext);
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the log files of all {@link NioFileTailer}s with a single thread.
+ *
+ * The directories of the files are watched by a {@link WatchService}, so that new data is read as soon as it is
+ * written. Additionally every file is checked after its refresh rate has passed, as file changes are not reported by
+ * all file systems, e.g. network shares, and some watch service implementations poll themselves with a long interval.
+ * The thread is started with the first tailer and stops when the last tailer has been removed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class LogFileWatcher {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(LogFileWatcher.class);
+    private final Set<NioFileTailer> tailers = new CopyOnWriteArraySet<>();
+
+    /* All access must be guarded by "this" */
+    private @Nullable Thread thread;
+
+    /**
+     * Add a tailer. It is checked for new data immediately by the watcher thread.
+     *
+     * @param tailer the tailer
+     */
+    public synchronized void register(NioFileTailer tailer) {
+        tailers.add(tailer);
+        if (thread == null) {
+            Thread newThread = new Thread(this::run, "OH-binding-logreader-watcher");
+            newThread.setDaemon(true);
+            thread = newThread;
+            newThread.start();
+        }
+    }
+
+    /**
+     * Remove a tailer.
+     *
+     * @param tailer the tailer
+     */
+    public synchronized void unregister(NioFileTailer tailer) {
+        tailers.remove(tailer);
+    }
+
+    /**
+     * Remove all tailers and stop the watcher thread.
+     */
+    public synchronized void dispose() {
+        tailers.clear();
+        Thread localThread = thread;
+        if (localThread != null) {
+            localThread.interrupt();
+        }
+    }
+
+    private void run() {
+        // only used by the watcher thread
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            while (!isDone()) {
+                Set<Path> changedDirectories = new HashSet<>();
+                boolean overflow = false;
+
+                WatchKey key = watchService.poll(getTimeout(), TimeUnit.NANOSECONDS);
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        overflow |= event.kind() == OVERFLOW;
+                    }
+                    if (key.watchable() instanceof Path directory) {
+                        changedDirectories.add(directory);
+                    }
+                    key.reset();
+                    key = watchService.poll();
+                }
+
+                long now = System.nanoTime();
+                for (NioFileTailer tailer : tailers) {
+                    if (overflow || changedDirectories.contains(tailer.getDirectory()) || tailer.isCheckDue(now)) {
+                        tailer.check(buffer);
+                    }
+                }
+                updateWatchedDirectories(watchService, watchedDirectories);
+            }
+        } catch (InterruptedException e) {
+            exited();
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Watching log files failed: {}", e.getMessage());
+            exited();
+        }
+    }
+
+    private synchronized void exited() {
+        if (thread == Thread.currentThread()) {
+            thread = null;
+        }
+    }
+
+    /**
+     * Check if the thread shall exit. If yes, a new thread will be started by the next call of
+     * {@link #register(NioFileTailer)}.
+     */
+    private synchronized boolean isDone() {
+        if (tailers.isEmpty() || Thread.currentThread().isInterrupted()) {
+            exited();
+            return true;
+        }
+        return false;
+    }
+
+    private long getTimeout() {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.SECONDS.toNanos(1);
+        for (NioFileTailer tailer : tailers) {
+            timeout = Math.min(timeout, tailer.getNextCheck() - now);
+        }
+        return Math.max(timeout, 0);
+    }
+
+    private void updateWatchedDirectories(WatchService watchService, Map<Path, WatchKey> watchedDirectories) {
+        Set<Path> directories = new HashSet<>();
+        for (NioFileTailer tailer : tailers) {
+            Path directory = tailer.getDirectory();
+            directories.add(directory);
+            if (!watchedDirectories.containsKey(directory)) {
+                try {
+                    watchedDirectories.put(directory,
+                            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+                    logger.debug("Watching directory '{}'", directory);
+                } catch (IOException e) {
+                    // the directory doesn't exist (yet), the file is checked after its refresh rate
+                    logger.trace("Cannot watch directory '{}': {}", directory, e.getMessage());
+                }
+            }
+        }
+        watchedDirectories.entrySet().removeIf(entry -> {
+            if (directories.contains(entry.getKey()) && entry.getValue().isValid()) {
+                return false;
+            }
+            entry.getValue().cancel();
+            return true;
+        });
+    }
+}
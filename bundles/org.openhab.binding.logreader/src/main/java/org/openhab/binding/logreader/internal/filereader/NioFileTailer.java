@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * NIO based log file reader implementation. Reading starts at the end of the file, the file is checked for new data by
+ * the {@link LogFileWatcher} shared by all readers.
+ *
+ * A log rotation is detected if the file has been replaced by a new file or truncated. Remaining data of a replaced
+ * file is read before the new file is read from its beginning.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class NioFileTailer extends AbstractLogFileReader implements LogFileReader {
+    private final Logger logger = LoggerFactory.getLogger(NioFileTailer.class);
+
+    private final LogFileWatcher watcher;
+    // log files are expected to be written with the default charset of the system
+    private final Charset charset = Charset.defaultCharset();
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream(256);
+
+    private @NonNullByDefault({}) Path path;
+    private @NonNullByDefault({}) Path directory;
+    private long refreshRateNanos;
+    private volatile long nextCheck;
+    private volatile boolean running;
+
+    /* All access must be guarded by "this" */
+    private @Nullable FileChannel channel;
+    private @Nullable Object fileKey;
+    private long position;
+    private boolean fileNotFoundReported;
+
+    public NioFileTailer(LogFileWatcher watcher) {
+        this.watcher = watcher;
+    }
+
+    @Override
+    public void start(String filePath, long refreshRate) throws FileReaderException {
+        try {
+            path = Path.of(filePath).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            throw new FileReaderException(e);
+        }
+        Path parent = path.getParent();
+        if (parent == null) {
+            throw new FileReaderException("Invalid file path '" + filePath + "'");
+        }
+        directory = parent;
+        refreshRateNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(refreshRate, 1));
+
+        synchronized (this) {
+            try {
+                // start at the end of the file, a file created later is read from its beginning. A missing file is
+                // reported by the first check.
+                if (Files.exists(path) && open()) {
+                    position = size();
+                }
+            } catch (IOException e) {
+                close();
+                throw new FileReaderException(e);
+            }
+        }
+        running = true;
+        nextCheck = System.nanoTime();
+        logger.debug("Start reading '{}'", path);
+        watcher.register(this);
+    }
+
+    @Override
+    public void stop() {
+        logger.debug("Shutdown");
+        running = false;
+        watcher.unregister(this);
+        synchronized (this) {
+            close();
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    long getNextCheck() {
+        return nextCheck;
+    }
+
+    boolean isCheckDue(long now) {
+        return now - nextCheck >= 0;
+    }
+
+    /**
+     * Read new data of the file and detect log rotations. Called by the watcher thread only.
+     *
+     * @param buffer the buffer to read the file with
+     */
+    synchronized void check(ByteBuffer buffer) {
+        nextCheck = System.nanoTime() + refreshRateNanos;
+        if (!running) {
+            return;
+        }
+        try {
+            if (channel == null) {
+                boolean reopened = fileKey != null;
+                if (!open()) {
+                    return;
+                }
+                if (reopened) {
+                    sendFileRotationToListeners();
+                }
+            } else if (size() < position) {
+                logger.debug("File '{}' has been truncated", path);
+                position = 0;
+                partialLine.reset();
+                sendFileRotationToListeners();
+            }
+
+            readLines(buffer);
+
+            Object currentKey = getFileKey();
+            if (currentKey == null || !currentKey.equals(fileKey)) {
+                // the file has been replaced or removed, all data of the old file has been read
+                logger.debug("File '{}' has been replaced", path);
+                close();
+                if (open()) {
+                    sendFileRotationToListeners();
+                    readLines(buffer);
+                }
+            }
+        } catch (IOException e) {
+            close();
+            sendExceptionToListeners(e);
+        }
+    }
+
+    /**
+     * Open the file. The file is read from its beginning.
+     *
+     * @return false if the file does not exist
+     */
+    private boolean open() throws IOException {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            if (!fileNotFoundReported) {
+                fileNotFoundReported = true;
+                sendFileNotFoundToListeners();
+            }
+            return false;
+        }
+        fileKey = getFileKey();
+        position = 0;
+        partialLine.reset();
+        fileNotFoundReported = false;
+        return true;
+    }
+
+    private void close() {
+        FileChannel localChannel = channel;
+        channel = null;
+        if (localChannel != null) {
+            try {
+                localChannel.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close '{}': {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private long size() throws IOException {
+        FileChannel localChannel = channel;
+        return localChannel != null ? localChannel.size() : 0;
+    }
+
+    /**
+     * Determine the key identifying the file, e.g. the inode number.
+     *
+     * @return the key, the path if the platform doesn't provide file keys, or null if the file doesn't exist
+     */
+    private @Nullable Object getFileKey() throws IOException {
+        try {
+            Object key = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            // without file keys a rotation is only detected if the file is truncated or removed
+            return key != null ? key : path;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read all new data in chunks of the buffer size and send the complete lines to the listeners. An incomplete last
+     * line is kept until the rest of it has been written.
+     */
+    private void readLines(ByteBuffer buffer) throws IOException {
+        FileChannel localChannel = channel;
+        if (localChannel == null) {
+            return;
+        }
+
+        byte[] data = buffer.array();
+        int count;
+        buffer.clear();
+        while (running && (count = localChannel.read(buffer, position)) > 0) {
+            int lineStart = 0;
+            for (int i = 0; i < count; i++) {
+                if (data[i] == '\n') {
+                    sendLineToListeners(decodeLine(data, lineStart, i));
+                    lineStart = i + 1;
+                }
+            }
+            partialLine.write(data, lineStart, count - lineStart);
+            position += count;
+            buffer.clear();
+        }
+    }
+
+    private String decodeLine(byte[] data, int start, int end) {
+        String line;
+        if (partialLine.size() == 0) {
+            line = new String(data, start, end - start, charset);
+        } else {
+            partialLine.write(data, start, end - start);
+            line = partialLine.toString(charset);
+            partialLine.reset();
+        }
+        // swallow CR before LF
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+}
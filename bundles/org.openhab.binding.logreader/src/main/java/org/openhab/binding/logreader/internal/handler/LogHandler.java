@@ -15,6 +15,7 @@ package org.openhab.binding.logreader.internal.handler;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -22,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.config.LogReaderConfiguration;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
 import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.openhab.binding.logreader.internal.searchengine.LineClassifier;
 import org.openhab.binding.logreader.internal.searchengine.SearchEngine;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
@@ -43,6 +45,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Miika Jukka - Initial contribution
  * @author Pauli Anttila - Rewrite
+ * @author Contributors to the openHAB project - Classify lines once for all search engines
  */
 @NonNullByDefault
 public class LogHandler extends BaseThingHandler implements FileReaderListener {
@@ -55,6 +58,7 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
     private @Nullable SearchEngine errorEngine;
     private @Nullable SearchEngine warningEngine;
     private @Nullable SearchEngine customEngine;
+    private @Nullable LineClassifier classifier;
 
     public LogHandler(Thing thing, LogFileReader fileReader) {
         super(thing);
@@ -98,11 +102,17 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         clearCounters();
 
         try {
-            warningEngine = new SearchEngine(configuration.warningPatterns, configuration.warningBlacklistingPatterns);
-            errorEngine = new SearchEngine(configuration.errorPatterns, configuration.errorBlacklistingPatterns);
+            SearchEngine localWarningEngine = new SearchEngine(configuration.warningPatterns,
+                    configuration.warningBlacklistingPatterns);
+            SearchEngine localErrorEngine = new SearchEngine(configuration.errorPatterns,
+                    configuration.errorBlacklistingPatterns);
             String customPatterns = configuration.customPatterns;
-            customEngine = new SearchEngine(customPatterns != null ? customPatterns : "",
+            SearchEngine localCustomEngine = new SearchEngine(customPatterns != null ? customPatterns : "",
                     configuration.customBlacklistingPatterns);
+            warningEngine = localWarningEngine;
+            errorEngine = localErrorEngine;
+            customEngine = localCustomEngine;
+            classifier = new LineClassifier(List.of(localErrorEngine, localWarningEngine, localCustomEngine));
         } catch (PatternSyntaxException e) {
             logger.debug("Illegal search pattern syntax '{}'. ", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
@@ -188,17 +198,26 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             updateStatus(ThingStatus.ONLINE);
         }
 
-        if (errorEngine != null && errorEngine.isMatching(line)) {
+        LineClassifier localClassifier = classifier;
+        if (localClassifier == null) {
+            return;
+        }
+
+        List<SearchEngine> matches = localClassifier.classify(line);
+        if (matches.isEmpty()) {
+            return;
+        }
+        if (errorEngine != null && matches.contains(errorEngine)) {
             updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(errorEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(line));
             triggerChannel(CHANNEL_NEWERROR, line);
         }
-        if (warningEngine != null && warningEngine.isMatching(line)) {
+        if (warningEngine != null && matches.contains(warningEngine)) {
             updateChannelIfLinked(CHANNEL_WARNINGS, new DecimalType(warningEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTWARNING, new StringType(line));
             triggerChannel(CHANNEL_NEWWARNING, line);
         }
-        if (customEngine != null && customEngine.isMatching(line)) {
+        if (customEngine != null && matches.contains(customEngine)) {
             updateChannelIfLinked(CHANNEL_CUSTOMEVENTS, new DecimalType(customEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTCUSTOMEVENT, new StringType(line));
             triggerChannel(CHANNEL_NEWCUSTOM, line);
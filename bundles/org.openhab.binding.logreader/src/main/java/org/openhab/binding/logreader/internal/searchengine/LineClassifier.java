@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * This class classifies lines against the search patterns of several {@link SearchEngine}s at once.
+ *
+ * Most search patterns start with a literal text every matching line must contain, e.g. <code>ERROR</code> for the
+ * default error pattern <code>ERROR+</code>. The literals of all patterns are searched in a single pass over the line
+ * and only the patterns whose literal has been found, or which don't have one, are evaluated. As most log lines don't
+ * match any pattern, this avoids running every regular expression on every line.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class LineClassifier {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final int NO_LITERAL = -1;
+
+    private record Candidate(Pattern pattern, int literal) {
+    }
+
+    private record Entry(SearchEngine engine, List<Candidate> matchers, List<Candidate> blacklistingMatchers) {
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final @Nullable LiteralScanner scanner;
+
+    /**
+     * Initialize classifier.
+     *
+     * @param engines search engines to classify lines for. Their match counters are updated by
+     *            {@link #classify(String)}.
+     */
+    public LineClassifier(List<SearchEngine> engines) {
+        Map<String, Integer> literals = new LinkedHashMap<>();
+        for (SearchEngine engine : engines) {
+            entries.add(new Entry(engine, candidates(engine.getMatchers(), literals),
+                    candidates(engine.getBlacklistingMatchers(), literals)));
+        }
+        scanner = literals.isEmpty() ? null : new LiteralScanner(new ArrayList<>(literals.keySet()));
+    }
+
+    /**
+     * Check which search engines the line matches to. The match count of all matching engines is incremented.
+     *
+     * @param line line to classify.
+     * @return search engines which one of the search patterns found and none of the blacklisting patterns.
+     */
+    public List<SearchEngine> classify(String line) {
+        LiteralScanner localScanner = scanner;
+        BitSet literals = localScanner != null ? localScanner.scan(line) : new BitSet();
+
+        List<SearchEngine> result = List.of();
+        for (Entry entry : entries) {
+            if (isMatching(entry.matchers(), line, literals)
+                    && !isMatching(entry.blacklistingMatchers(), line, literals)) {
+                entry.engine().countMatch();
+                if (result.isEmpty()) {
+                    result = new ArrayList<>(entries.size());
+                }
+                result.add(entry.engine());
+            }
+        }
+        return result;
+    }
+
+    private boolean isMatching(List<Candidate> candidates, String line, BitSet literals) {
+        for (Candidate candidate : candidates) {
+            if ((candidate.literal() == NO_LITERAL || literals.get(candidate.literal()))
+                    && candidate.pattern().matcher(line).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Candidate> candidates(List<Pattern> patterns, Map<String, Integer> literals) {
+        List<Candidate> candidates = new ArrayList<>(patterns.size());
+        for (Pattern pattern : patterns) {
+            String literal = requiredLiteral(pattern);
+            int index = literal.isEmpty() ? NO_LITERAL
+                    : literals.computeIfAbsent(literal, l -> literals.size());
+            candidates.add(new Candidate(pattern, index));
+        }
+        return candidates;
+    }
+
+    /**
+     * Determine the literal text at the beginning of a pattern, which is part of every match of the pattern.
+     *
+     * @param pattern the pattern.
+     * @return the literal, or an empty string if the pattern doesn't start with a literal, uses flags or alternatives.
+     */
+    static String requiredLiteral(Pattern pattern) {
+        String regex = pattern.pattern();
+        if (pattern.flags() != 0 || regex.indexOf('|') >= 0) {
+            return "";
+        }
+        StringBuilder literal = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            int length = 1;
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    // character classes, back references, boundaries and quoting
+                    break;
+                }
+                c = regex.charAt(i + 1);
+                length = 2;
+            } else if (META_CHARACTERS.indexOf(c) >= 0) {
+                break;
+            }
+            if (c >= 128) {
+                break;
+            }
+            i += length;
+            if (i < regex.length()) {
+                char quantifier = regex.charAt(i);
+                if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                    // the character is optional or repeated an unknown number of times
+                    break;
+                }
+                if (quantifier == '+') {
+                    literal.append(c);
+                    break;
+                }
+            }
+            literal.append(c);
+        }
+        return literal.toString();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Aho-Corasick automaton finding all occurrences of a set of ASCII literals in a single pass over the text.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class LiteralScanner {
+    private static final int ALPHABET = 128;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final int literalCount;
+    // transition of state s with character c is delta[s * ALPHABET + c]
+    private final int[] delta;
+    // indexes of the literals ending in each state
+    private final int[][] outputs;
+
+    /**
+     * Builds the automaton.
+     *
+     * @param literals non empty literals consisting of ASCII characters only
+     */
+    LiteralScanner(List<String> literals) {
+        this.literalCount = literals.size();
+
+        List<int[]> gotos = new ArrayList<>();
+        List<int[]> outputList = new ArrayList<>();
+        gotos.add(newState());
+        outputList.add(NO_OUTPUT);
+        for (int i = 0; i < literals.size(); i++) {
+            int state = 0;
+            for (char c : literals.get(i).toCharArray()) {
+                int next = gotos.get(state)[c];
+                if (next < 0) {
+                    next = gotos.size();
+                    gotos.get(state)[c] = next;
+                    gotos.add(newState());
+                    outputList.add(NO_OUTPUT);
+                }
+                state = next;
+            }
+            outputList.set(state, append(outputList.get(state), i));
+        }
+
+        int states = gotos.size();
+        delta = new int[states * ALPHABET];
+        outputs = outputList.toArray(new int[states][]);
+        int[] fail = new int[states];
+
+        // breadth first, so that the fail state of each state is complete before it is used
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = gotos.get(0)[c];
+            if (next > 0) {
+                delta[c] = next;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] stateGotos = gotos.get(state);
+            outputs[state] = concat(outputs[state], outputs[fail[state]]);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = stateGotos[c];
+                if (next > 0) {
+                    fail[next] = delta[fail[state] * ALPHABET + c];
+                    delta[state * ALPHABET + c] = next;
+                    queue.add(next);
+                } else {
+                    delta[state * ALPHABET + c] = delta[fail[state] * ALPHABET + c];
+                }
+            }
+        }
+    }
+
+    /**
+     * Scans the text for all literals.
+     *
+     * @param text the text to scan
+     * @return the indexes of the literals occurring in the text
+     */
+    BitSet scan(CharSequence text) {
+        BitSet found = new BitSet(literalCount);
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // no literal contains a non ASCII character
+            state = c < ALPHABET ? delta[state * ALPHABET + c] : 0;
+            for (int literal : outputs[state]) {
+                found.set(literal);
+            }
+        }
+        return found;
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
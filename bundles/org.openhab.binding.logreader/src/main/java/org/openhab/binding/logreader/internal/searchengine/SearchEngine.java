@@ -25,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
  * This class implements logic for regular expression based searching.
  *
  * @author Pauli Anttila - Initial contribution
+ * @author Contributors to the openHAB project - Expose patterns for the {@link LineClassifier}
  */
 @NonNullByDefault
 public class SearchEngine {
@@ -55,7 +56,7 @@ public class SearchEngine {
     public boolean isMatching(String data) {
         if (isMatching(matchers, data)) {
             if (notBlacklisted(data)) {
-                matchCount++;
+                countMatch();
                 return true;
             }
         }
@@ -74,6 +75,18 @@ public class SearchEngine {
         setMatchCount(0);
     }
 
+    List<Pattern> getMatchers() {
+        return matchers;
+    }
+
+    List<Pattern> getBlacklistingMatchers() {
+        return blacklistingMatchers;
+    }
+
+    void countMatch() {
+        matchCount++;
+    }
+
     /**
      * Split pattern string and precompile search patterns.
      *
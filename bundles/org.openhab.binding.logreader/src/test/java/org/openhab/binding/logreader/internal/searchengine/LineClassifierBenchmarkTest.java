@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput in lines per second of classifying the lines of an openHAB log with the default warning and
+ * error patterns and a custom pattern, by the {@link LineClassifier} and by the three {@link SearchEngine}s.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class LineClassifierBenchmarkTest {
+    private static final int LINES = 200_000;
+    private static final int ROUNDS = 5;
+    private static final String[] LEVELS = { "DEBUG", "DEBUG", "INFO ", "INFO ", "INFO ", "INFO ", "INFO ", "INFO ",
+            "WARN ", "ERROR" };
+    private static final String[] LOGGERS = { "openhab.event.ItemStateChangedEvent", "openhab.event.ThingUpdatedEvent",
+            "org.openhab.core.model.script.rules", "org.openhab.binding.mqtt.handler.BrokerHandler",
+            "org.openhab.core.automation.internal.RuleEngineImpl" };
+    private static final String[] MESSAGES = { "Item 'Temperature' changed from 21.5 °C to 21.6 °C",
+            "Thing 'mqtt:broker:local' changed from ONLINE to OFFLINE (COMMUNICATION_ERROR): connection refused",
+            "Script execution of rule with UID 'heating-1' failed: timeout", "Rule 'Lights' has been updated",
+            "Item 'Presence' received command ON" };
+
+    private final Logger logger = LoggerFactory.getLogger(LineClassifierBenchmarkTest.class);
+    private final List<String> lines = new ArrayList<>(LINES);
+
+    @BeforeEach
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < LINES; i++) {
+            lines.add(String.format("2024-03-04 12:%02d:%02d.%03d [%s] [%-40s] - %s", i / 60 % 60, i % 60, i % 1000,
+                    LEVELS[random.nextInt(LEVELS.length)], LOGGERS[random.nextInt(LOGGERS.length)],
+                    MESSAGES[random.nextInt(MESSAGES.length)]));
+        }
+    }
+
+    @Test
+    public void testThroughput() {
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            List<SearchEngine> engines = createEngines();
+            LineClassifier classifier = new LineClassifier(engines);
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String line : lines) {
+                    classifier.classify(line);
+                }
+            }
+            long classifierNanos = System.nanoTime() - start;
+
+            List<SearchEngine> reference = createEngines();
+            start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                for (String line : lines) {
+                    for (SearchEngine engine : reference) {
+                        engine.isMatching(line);
+                    }
+                }
+            }
+            long searchEngineNanos = System.nanoTime() - start;
+
+            for (int i = 0; i < engines.size(); i++) {
+                assertEquals(reference.get(i).getMatchCount(), engines.get(i).getMatchCount());
+            }
+            logger.info("LineClassifier: {} lines/s, SearchEngine: {} lines/s", linesPerSecond(classifierNanos),
+                    linesPerSecond(searchEngineNanos));
+        });
+    }
+
+    private static List<SearchEngine> createEngines() {
+        return List.of(new SearchEngine("WARN+", null), new SearchEngine("ERROR+", "timeout"),
+                new SearchEngine("connection refused|OFFLINE", null));
+    }
+
+    private static long linesPerSecond(long nanos) {
+        return (long) LINES * ROUNDS * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests the {@link LineClassifier}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class LineClassifierTest {
+    private static final String[] WORDS = { "ERROR", "ERR", "RROR", "WARN", "WARNING", "WWARN", "INFO", "DEBUG",
+            "error", "Error", "timeout", "time out", "connection", "refused", "a.b", "axb", "[main]", "(test)", "x+y",
+            "Fehler", "Störung", "ÄRROR", "日本語", "foo", "fooo", "fo", "bar", "ab", "abb", "abbb", "\t", "1234" };
+
+    private static Stream<Arguments> requiredLiterals() {
+        return Stream.of( //
+                // plain text
+                Arguments.of("ERROR", "ERROR"), //
+                Arguments.of("connection refused", "connection refused"), //
+                // quantifiers
+                Arguments.of("ERROR+", "ERROR"), //
+                Arguments.of("foo+bar", "foo"), //
+                Arguments.of("colou?r", "colo"), //
+                Arguments.of("ab*c", "a"), //
+                Arguments.of("ab{2}", "a"), //
+                Arguments.of("ab{1,3}c", "a"), //
+                Arguments.of("a?b", ""), //
+                Arguments.of("a*", ""), //
+                // escapes
+                Arguments.of("a\\.b", "a.b"), //
+                Arguments.of("\\[main\\] started", "[main] started"), //
+                Arguments.of("abc\\.d?x", "abc."), //
+                Arguments.of("x\\+?y", "x"), //
+                Arguments.of("a\\d", "a"), //
+                Arguments.of("\\bERROR", ""), //
+                Arguments.of("\\QERROR\\E", ""), //
+                // meta characters
+                Arguments.of("^ERROR", "ERROR"), //
+                Arguments.of("^abc\\.d?x", "abc."), //
+                Arguments.of("ERROR$", "ERROR"), //
+                Arguments.of("a.b", "a"), //
+                Arguments.of("[EW]RROR", ""), //
+                Arguments.of("ERR(OR)?", "ERR"), //
+                Arguments.of("ERROR|WARN", ""), //
+                // flags
+                Arguments.of("(?i)error", ""), //
+                // non ASCII characters
+                Arguments.of("Störung", "St"), //
+                Arguments.of("日本語", "") //
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("requiredLiterals")
+    public void testRequiredLiteral(String regex, String expected) {
+        assertEquals(expected, LineClassifier.requiredLiteral(Pattern.compile(regex)));
+    }
+
+    @Test
+    public void testRequiredLiteralWithFlags() {
+        assertEquals("", LineClassifier.requiredLiteral(Pattern.compile("error", Pattern.CASE_INSENSITIVE)));
+        assertEquals("", LineClassifier.requiredLiteral(Pattern.compile("error", Pattern.COMMENTS)));
+        assertEquals("", LineClassifier.requiredLiteral(Pattern.compile("error", Pattern.LITERAL)));
+    }
+
+    @Test
+    public void testClassify() {
+        SearchEngine warning = new SearchEngine("WARN+", null);
+        SearchEngine error = new SearchEngine("ERROR+", "timeout");
+        SearchEngine custom = new SearchEngine("conn.*refused|(?i)fehler", null);
+        LineClassifier classifier = new LineClassifier(List.of(warning, error, custom));
+
+        assertEquals(List.of(), classifier.classify("INFO all fine"));
+        assertEquals(List.of(warning), classifier.classify("WARN something"));
+        assertEquals(List.of(error, custom), classifier.classify("ERROR connection refused"));
+        assertEquals(List.of(), classifier.classify("ERROR timeout"));
+        assertEquals(List.of(custom), classifier.classify("FEHLER: Störung"));
+
+        assertEquals(1, warning.getMatchCount());
+        assertEquals(1, error.getMatchCount());
+        assertEquals(2, custom.getMatchCount());
+    }
+
+    private static Stream<Arguments> engineConfigurations() {
+        return Stream.of( //
+                Arguments.of("WARN+", null, "ERROR+", null, "", null), //
+                Arguments.of("WARN+", "WWARN", "ERROR+", "RROR ERR", "fo+|ab{2}|x\\+y", null), //
+                Arguments.of("^WARN", null, "ERR|RROR", "(?i)time ?out", "a\\.b|a.b|\\[main\\]", "ab"), //
+                Arguments.of("(?i)warn", null, "\\bERROR\\b", null, "Fehler|Störung|日本語|ÄRROR", "fo?$"), //
+                Arguments.of("[0-9]+", null, "refused$", "^connection", "\\(test\\)|Err?or", "abb+") //
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("engineConfigurations")
+    public void testClassifyIsEquivalentToSearchEngine(String warningPatterns, @Nullable String warningBlacklist,
+            String errorPatterns, @Nullable String errorBlacklist, String customPatterns,
+            @Nullable String customBlacklist) {
+        List<SearchEngine> reference = List.of(new SearchEngine(warningPatterns, warningBlacklist),
+                new SearchEngine(errorPatterns, errorBlacklist), new SearchEngine(customPatterns, customBlacklist));
+        List<SearchEngine> engines = List.of(new SearchEngine(warningPatterns, warningBlacklist),
+                new SearchEngine(errorPatterns, errorBlacklist), new SearchEngine(customPatterns, customBlacklist));
+        LineClassifier classifier = new LineClassifier(engines);
+
+        for (String line : corpus(20000)) {
+            List<SearchEngine> expected = new ArrayList<>();
+            for (int i = 0; i < reference.size(); i++) {
+                if (reference.get(i).isMatching(line)) {
+                    expected.add(engines.get(i));
+                }
+            }
+            assertEquals(expected, classifier.classify(line), () -> "Line '" + line + "'");
+        }
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i).getMatchCount(), engines.get(i).getMatchCount());
+        }
+    }
+
+    /**
+     * Creates random lines of the words of the corpus, separated by spaces or concatenated.
+     */
+    static List<String> corpus(int size) {
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            StringBuilder line = new StringBuilder();
+            int words = random.nextInt(8);
+            for (int j = 0; j < words; j++) {
+                if (j > 0 && random.nextBoolean()) {
+                    line.append(' ');
+                }
+                line.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -220,6 +220,20 @@ export class DeviceNode {
         }
     }
 
+    /**
+     * Sets the states of multiple endpoints, used by openHAB to send the state updates of many items in one message.
+     */
+    public async setEndpointsStates(
+        updates: {
+            endpointId: string;
+            states: { clusterName: string; attributeName: string; state: any }[];
+        }[],
+    ) {
+        for (const { endpointId, states } of updates) {
+            await this.setEndpointStates(endpointId, states);
+        }
+    }
+
     public async openCommissioningWindow() {
         const dc = this.#getStartedServer().env.get(DeviceCommissioner);
         logger.debug("opening basic commissioning window");
@@ -364,7 +364,7 @@ public class MatterBridge implements MatterClientListener {
     }
 
     private void stopClient() {
-        logger.debug("Stopping Matter Bridge Client");
+        logger.debug("Stopping Matter Bridge Client, state updates: {}", client.getStateUpdateStatistics());
         cancelConnect();
         updateRunningState(RunningState.Stopped, null);
         ScheduledFuture<?> modifyFuture = this.modifyFuture;
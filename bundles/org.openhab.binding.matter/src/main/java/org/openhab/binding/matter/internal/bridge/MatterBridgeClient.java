@@ -12,12 +12,19 @@
  */
 package org.openhab.binding.matter.internal.bridge;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.matter.internal.client.MatterWebsocketClient;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeCommissionState;
+import org.openhab.core.common.ThreadPoolManager;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
@@ -32,6 +39,47 @@ import com.google.gson.JsonParseException;
 @NonNullByDefault
 public class MatterBridgeClient extends MatterWebsocketClient {
 
+    /**
+     * State updates are collected for this time and then sent to the bridge in a single message, so that e.g. a
+     * scene changing many items doesn't cause a round trip per item
+     */
+    private static final long STATE_BATCH_DELAY_MILLIS = 20;
+
+    private final ScheduledExecutorService stateScheduler = ThreadPoolManager
+            .getScheduledPool("matter.MatterBridgeClient");
+
+    // pending states by endpoint id and attribute, only the latest state of an attribute is sent
+    private final Map<String, Map<String, AttributeState>> pendingStates = new LinkedHashMap<>();
+    private final List<CompletableFuture<Void>> pendingFutures = new ArrayList<>();
+    private long pendingSince;
+    private boolean flushScheduled;
+
+    private final AtomicLong stateBatches = new AtomicLong();
+    private final AtomicLong stateUpdates = new AtomicLong();
+    private final AtomicLong statesSent = new AtomicLong();
+    private final AtomicLong stateLatencyNanos = new AtomicLong();
+
+    /**
+     * Counters of the state updates sent to the bridge.
+     *
+     * @param batches the number of messages sent
+     * @param updates the number of attribute states requested to be set
+     * @param sent the number of attribute states sent, updates of the same attribute in a batch are merged
+     * @param averageLatencyMillis the average time from the first update of a batch until it was acknowledged
+     */
+    public record StateUpdateStatistics(long batches, long updates, long sent, long averageLatencyMillis) {
+    }
+
+    private static class EndpointStates {
+        final String endpointId;
+        final List<AttributeState> states;
+
+        EndpointStates(String endpointId, List<AttributeState> states) {
+            this.endpointId = endpointId;
+            this.states = states;
+        }
+    }
+
     /**
      * Add an endpoint to the bridge.
      * 
@@ -61,18 +109,82 @@ public class MatterBridgeClient extends MatterWebsocketClient {
     /**
      * Set the states of the endpoint in a single transaction.
      * 
+     * The states are queued and sent together with the other state updates of the next batch.
+     * 
      * @param endpointId the endpoint id
      * @param states the states to set
      * @return a future that completes when the states are set
      */
     public CompletableFuture<Void> setEndpointStates(String endpointId, List<AttributeState> states) {
-        CompletableFuture<JsonElement> future = sendMessage("bridge", "setEndpointStates",
-                new Object[] { endpointId, states });
-        return future.thenAccept(obj -> {
-            // Do nothing, just to complete the future
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        synchronized (pendingStates) {
+            if (pendingStates.isEmpty()) {
+                pendingSince = System.nanoTime();
+            }
+            Map<String, AttributeState> endpointStates = pendingStates.computeIfAbsent(endpointId,
+                    id -> new LinkedHashMap<>());
+            for (AttributeState state : states) {
+                // re-insert, so the attribute keeps the order of the latest update
+                String key = state.clusterName + "." + state.attributeName;
+                endpointStates.remove(key);
+                endpointStates.put(key, state);
+            }
+            pendingFutures.add(future);
+            stateUpdates.addAndGet(states.size());
+            if (!flushScheduled) {
+                flushScheduled = true;
+                stateScheduler.schedule(this::flushEndpointStates, STATE_BATCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    private void flushEndpointStates() {
+        List<EndpointStates> batch = new ArrayList<>();
+        List<CompletableFuture<Void>> futures;
+        long since;
+        synchronized (pendingStates) {
+            pendingStates.forEach((endpointId, states) -> batch.add(new EndpointStates(endpointId,
+                    new ArrayList<>(states.values()))));
+            futures = new ArrayList<>(pendingFutures);
+            since = pendingSince;
+            pendingStates.clear();
+            pendingFutures.clear();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        int count = batch.stream().mapToInt(endpointStates -> endpointStates.states.size()).sum();
+        stateBatches.incrementAndGet();
+        statesSent.addAndGet(count);
+        sendMessage("bridge", "setEndpointsStates", new Object[] { batch }).whenComplete((result, e) -> {
+            long latency = System.nanoTime() - since;
+            stateLatencyNanos.addAndGet(latency);
+            logger.debug("Sent {} states of {} endpoints for {} updates, acknowledged after {} ms", count,
+                    batch.size(), futures.size(), TimeUnit.NANOSECONDS.toMillis(latency));
+            for (CompletableFuture<Void> future : futures) {
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.complete(null);
+                }
+            }
         });
     }
 
+    /**
+     * Get the counters of the state updates sent to the bridge.
+     *
+     * @return the statistics
+     */
+    public StateUpdateStatistics getStateUpdateStatistics() {
+        long batches = stateBatches.get();
+        return new StateUpdateStatistics(batches, stateUpdates.get(), statesSent.get(),
+                batches == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(stateLatencyNanos.get() / batches));
+    }
+
     public CompletableFuture<Void> initializeBridge(boolean resetStorage) {
         CompletableFuture<JsonElement> future = sendMessage("bridge", "initializeBridge",
                 new Object[] { resetStorage });
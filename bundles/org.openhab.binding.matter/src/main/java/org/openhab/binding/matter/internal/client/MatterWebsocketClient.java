@@ -14,7 +14,6 @@ package org.openhab.binding.matter.internal.client;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigInteger;
 import java.net.URI;
@@ -24,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -77,7 +77,6 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 
 /**
  * A client for the Matter WebSocket API for communicating with a Matter controller
@@ -92,6 +91,10 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     private static final int BUFFER_SIZE = 1048576 * 2; // 2 Mb
     private static final int REQUEST_TIMEOUT_SECONDS = 60 * 3; // 3 minutes
 
+    // reflective lookups for the clusters, attributes and events, which would otherwise be repeated for every message
+    private static final Map<String, Optional<Class<?>>> CLASSES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, Optional<Field>>> FIELDS = new ConcurrentHashMap<>();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool("matter.MatterWebsocketClient");
 
@@ -341,21 +344,21 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
                         break;
                     case "bridgeEvent":
                         logger.debug("bridgeEvent message {}", event.data);
-                        BridgeEventMessage bridgeEventMessage = gson.fromJson(event.data, BridgeEventMessage.class);
-
-                        if (bridgeEventMessage == null) {
+                        if (!(event.data instanceof JsonObject bridgeEventJson)) {
                             logger.debug("invalid bridgeEvent");
                             return;
                         }
 
-                        switch (bridgeEventMessage.type) {
-                            case "attributeChanged":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventAttributeChanged.class);
-                                break;
-                            case "eventTriggered":
-                                bridgeEventMessage = gson.fromJson(event.data, BridgeEventTriggered.class);
-                                break;
-                        }
+                        // select the subtype without deserializing the event twice
+                        String bridgeEventType = bridgeEventJson.get("type") instanceof JsonPrimitive type
+                                ? type.getAsString()
+                                : "";
+                        Class<? extends BridgeEventMessage> bridgeEventClass = switch (bridgeEventType) {
+                            case "attributeChanged" -> BridgeEventAttributeChanged.class;
+                            case "eventTriggered" -> BridgeEventTriggered.class;
+                            default -> BridgeEventMessage.class;
+                        };
+                        BridgeEventMessage bridgeEventMessage = gson.fromJson(bridgeEventJson, bridgeEventClass);
 
                         if (bridgeEventMessage == null) {
                             logger.debug("invalid bridgeEvent subtype");
@@ -499,19 +502,20 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
                 String clusterName = clusterEntry.getKey();
                 JsonElement clusterElement = clusterEntry.getValue();
                 logger.trace("Cluster {}", clusterEntry);
+                Class<?> clazz = findClass(BaseCluster.class.getPackageName() + "." + clusterName + "Cluster");
+                if (clazz == null) {
+                    logger.debug("Cluster not found: {}", clusterName);
+                    continue;
+                }
                 try {
-                    Class<?> clazz = Class.forName(BaseCluster.class.getPackageName() + "." + clusterName + "Cluster");
                     if (BaseCluster.class.isAssignableFrom(clazz)) {
+                        // the reflective adapter sets all attributes of the cluster, including the inherited ones
                         BaseCluster cluster = context.deserialize(clusterElement, clazz);
-                        deserializeFields(cluster, clusterElement, clazz, context);
                         endpoint.clusters.put(clusterName, cluster);
                         logger.trace("deserializeEndpoint adding cluster {} to endpoint {}", clusterName,
                                 endpoint.number);
                     }
-                } catch (ClassNotFoundException e) {
-                    logger.debug("Cluster not found: {}", clusterName);
-                } catch (JsonSyntaxException | IllegalArgumentException | SecurityException
-                        | IllegalAccessException e) {
+                } catch (JsonSyntaxException | IllegalArgumentException | SecurityException e) {
                     logger.debug("Exception for cluster {}", clusterName, e);
                 }
             }
@@ -529,47 +533,6 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
 
             return endpoint;
         }
-
-        private void deserializeFields(Object instance, JsonElement jsonElement, Class<?> clazz,
-                JsonDeserializationContext context) throws IllegalAccessException {
-            JsonObject jsonObject = jsonElement.getAsJsonObject();
-            for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-                String fieldName = entry.getKey();
-                JsonElement element = entry.getValue();
-
-                try {
-                    Field field = getField(clazz, fieldName);
-                    field.setAccessible(true);
-
-                    if (List.class.isAssignableFrom(field.getType())) {
-                        // Handle lists generically
-                        Type fieldType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-                        List<?> list = context.deserialize(element,
-                                TypeToken.getParameterized(List.class, fieldType).getType());
-                        field.set(instance, list);
-                    } else {
-                        // Handle normal fields
-                        Object fieldValue = context.deserialize(element, field.getType());
-                        field.set(instance, fieldValue);
-                    }
-                } catch (NoSuchFieldException e) {
-                    logger.trace("Skipping field {}", fieldName);
-                }
-            }
-        }
-
-        private Field getField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
-            try {
-                return clazz.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                Class<?> superClass = clazz.getSuperclass();
-                if (superClass == null) {
-                    throw e;
-                } else {
-                    return getField(superClass, fieldName);
-                }
-            }
-        }
     }
 
     @NonNullByDefault({})
@@ -588,14 +551,12 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             // Use ClusterRegistry to find the cluster class
             Class<? extends BaseCluster> clusterClass = ClusterRegistry.CLUSTER_IDS.get(path.clusterId);
             if (clusterClass != null) {
-                try {
-                    // Use reflection to find the field type
-                    Field field = getField(clusterClass, path.attributeName);
-                    if (field != null) {
-                        value = context.deserialize(valueElement, field.getType());
-                    }
-                } catch (NoSuchFieldException e) {
-                    logger.debug("Field not found for attribute: {}", path.attributeName, e);
+                // Use reflection to find the field type
+                Field field = findField(clusterClass, path.attributeName);
+                if (field != null) {
+                    value = context.deserialize(valueElement, field.getType());
+                } else {
+                    logger.debug("Field not found for attribute: {}", path.attributeName);
                 }
             }
 
@@ -619,19 +580,6 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
 
             return new AttributeChangedMessage(path, version, value);
         }
-
-        private Field getField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
-            try {
-                return clazz.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                Class<?> superClass = clazz.getSuperclass();
-                if (superClass == null) {
-                    throw e;
-                } else {
-                    return getField(superClass, fieldName);
-                }
-            }
-        }
     }
 
     /**
@@ -696,11 +644,11 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
                 JsonObject eventObject = eventsArray.get(i).getAsJsonObject();
                 TriggerEvent event = context.deserialize(eventObject, TriggerEvent.class);
                 if (clusterClass != null) {
-                    try {
-                        Class<?> eventClass = Class.forName(clusterClass.getName() + "$" + className);
+                    Class<?> eventClass = findClass(clusterClass.getName() + "$" + className);
+                    if (eventClass != null) {
                         event.data = context.deserialize(eventObject.get("data"), eventClass);
-                    } catch (ClassNotFoundException e) {
-                        logger.debug("Event class not found for event: {}", path.eventName, e);
+                    } else {
+                        logger.debug("Event class not found for event: {}", path.eventName);
                     }
                 }
                 events[i] = event;
@@ -743,6 +691,29 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
         }
     }
 
+    private static @Nullable Class<?> findClass(String className) {
+        return CLASSES.computeIfAbsent(className, name -> {
+            try {
+                return Optional.of(Class.forName(name));
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    private static @Nullable Field findField(Class<?> clazz, String fieldName) {
+        return FIELDS.computeIfAbsent(clazz, c -> new ConcurrentHashMap<>()).computeIfAbsent(fieldName, name -> {
+            for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+                try {
+                    return Optional.of(c.getDeclaredField(name));
+                } catch (NoSuchFieldException e) {
+                    // continue with the super class
+                }
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
     /**
      * Get the Gson instance for use in tests
      */
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -101,6 +102,53 @@ class MatterWebsocketClientTest {
         assertEquals(1, endpoint.clusters.size());
     }
 
+    @Test
+    void testDeserializeNodeClusterAttributes() {
+        String json = """
+                {
+                    "id": "1234567890",
+                    "rootEndpoint": {
+                        "number": 0,
+                        "clusters": {
+                            "Unknown": {
+                                "id": 64000,
+                                "name": "Unknown"
+                            }
+                        },
+                        "children": [
+                            {
+                                "number": 1,
+                                "clusters": {
+                                    "OnOff": {
+                                        "id": 6,
+                                        "name": "OnOff",
+                                        "onOff": true,
+                                        "attributeList": [0, 16384, 65533],
+                                        "startUpOnOff": 1,
+                                        "featureMap": {
+                                            "lighting": true
+                                        }
+                                    }
+                                }
+                            }
+                        ]
+                    }
+                }
+                """;
+        for (int i = 0; i < 2; i++) {
+            Node node = client.getGson().fromJson(json, Node.class);
+            assertNotNull(node);
+            assertEquals(0, node.rootEndpoint.clusters.size());
+            OnOffCluster onOffCluster = (OnOffCluster) node.rootEndpoint.children.get(0).clusters.get("OnOff");
+            assertNotNull(onOffCluster);
+            assertEquals(6, onOffCluster.id);
+            assertEquals(true, onOffCluster.onOff);
+            assertEquals(List.of(0, 16384, 65533), onOffCluster.attributeList);
+            assertEquals(OnOffCluster.StartUpOnOffEnum.ON, onOffCluster.startUpOnOff);
+            assertEquals(true, onOffCluster.featureMap.lighting);
+        }
+    }
+
     @Test
     void testDeserializeAttributeChangedMessage() {
         String json = """
@@ -40,6 +40,8 @@ public class NetworkBindingConfiguration {
     // For backwards compatibility reasons, the default is to use the ping method execution time as latency value
     public boolean preferResponseTimeAsLatency = false;
     public int numberOfDiscoveryThreads = DEFAULT_DISCOVERY_THREADS;
+    public boolean useProbeEngine = false;
+    public int passivePresenceTimeInS = 0;
 
     private List<NetworkBindingConfigurationListener> listeners = new ArrayList<>();
 
@@ -50,6 +52,8 @@ public class NetworkBindingConfiguration {
         this.arpPingToolPath = newConfiguration.arpPingToolPath;
         this.preferResponseTimeAsLatency = newConfiguration.preferResponseTimeAsLatency;
         this.numberOfDiscoveryThreads = newConfiguration.numberOfDiscoveryThreads;
+        this.useProbeEngine = newConfiguration.useProbeEngine;
+        this.passivePresenceTimeInS = newConfiguration.passivePresenceTimeInS;
 
         NetworkUtils networkUtils = new NetworkUtils();
         this.arpPingUtilMethod = networkUtils.determineNativeArpPingMethod(arpPingToolPath);
@@ -70,6 +74,7 @@ public class NetworkBindingConfiguration {
         return "NetworkBindingConfiguration{" + "allowSystemPings=" + allowSystemPings + ", allowDHCPlisten="
                 + allowDHCPlisten + ", cacheDeviceStateTimeInMS=" + cacheDeviceStateTimeInMS + ", arpPingToolPath='"
                 + arpPingToolPath + '\'' + ", arpPingUtilMethod=" + arpPingUtilMethod + ", preferResponseTimeAsLatency="
-                + preferResponseTimeAsLatency + ", numberOfDiscoveryThreads=" + numberOfDiscoveryThreads + '}';
+                + preferResponseTimeAsLatency + ", numberOfDiscoveryThreads=" + numberOfDiscoveryThreads
+                + ", useProbeEngine=" + useProbeEngine + ", passivePresenceTimeInS=" + passivePresenceTimeInS + '}';
     }
 }
@@ -17,6 +17,7 @@ import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +26,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.handler.NetworkHandler;
 import org.openhab.binding.network.internal.handler.SpeedTestHandler;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
@@ -53,10 +55,14 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
     final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private static final String NETWORK_HANDLER_THREADPOOL_NAME = "networkBinding";
     private static final String NETWORK_RESOLVER_THREADPOOL_NAME = "binding-network-resolver";
+    private static final int ARP_TABLE_REFRESH_INTERVAL_S = 10;
     private final Logger logger = LoggerFactory.getLogger(NetworkHandlerFactory.class);
     private final ScheduledExecutorService executor = ThreadPoolManager
             .getScheduledPool(NETWORK_HANDLER_THREADPOOL_NAME);
     private volatile @Nullable ExecutorService resolver;
+    private final PresenceProbeEngine probeEngine = new PresenceProbeEngine();
+    private final PassivePresenceCache passivePresenceCache = new PassivePresenceCache();
+    private @Nullable ScheduledFuture<?> arpTableJob;
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -86,6 +92,8 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
             resolver.shutdownNow();
             this.resolver = null;
         }
+        probeEngine.stop();
+        stopArpTableObservation();
     }
 
     @Modified
@@ -95,6 +103,24 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
         logger.debug("Updated binding configuration to {}", configuration);
+
+        startArpTableObservation();
+    }
+
+    private synchronized void startArpTableObservation() {
+        stopArpTableObservation();
+        if (configuration.passivePresenceTimeInS > 0 && passivePresenceCache.isArpTableAvailable()) {
+            arpTableJob = executor.scheduleWithFixedDelay(passivePresenceCache::refreshArpTable, 0,
+                    ARP_TABLE_REFRESH_INTERVAL_S, TimeUnit.SECONDS);
+        }
+    }
+
+    private synchronized void stopArpTableObservation() {
+        ScheduledFuture<?> arpTableJob = this.arpTableJob;
+        if (arpTableJob != null) {
+            arpTableJob.cancel(false);
+            this.arpTableJob = null;
+        }
     }
 
     @Override
@@ -109,9 +135,11 @@ public class NetworkHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(PING_DEVICE) || thingTypeUID.equals(BACKWARDS_COMPATIBLE_DEVICE)) {
-            return new NetworkHandler(thing, executor, resolver, false, configuration);
+            return new NetworkHandler(thing, executor, resolver, false, configuration, probeEngine,
+                    passivePresenceCache);
         } else if (thingTypeUID.equals(SERVICE_DEVICE)) {
-            return new NetworkHandler(thing, executor, resolver, true, configuration);
+            return new NetworkHandler(thing, executor, resolver, true, configuration, probeEngine,
+                    passivePresenceCache);
         } else if (thingTypeUID.equals(SPEEDTEST_DEVICE)) {
             return new SpeedTestHandler(thing);
         }
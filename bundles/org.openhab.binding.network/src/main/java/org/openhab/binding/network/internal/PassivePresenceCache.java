@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PassivePresenceCache} keeps the time a host was last seen without actively probing it, shared by all
+ * things. Hosts are observed by
+ * <ul>
+ * <li>DHCP requests received by the DHCP listener
+ * <li>the ARP cache of the operating system (Linux only): a host is seen when a new entry is resolved or the hardware
+ * address of an entry changes. The kernel does not expose when an existing entry was last confirmed, so entries that
+ * don't change are no evidence for the presence of a host.
+ * </ul>
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class PassivePresenceCache {
+    static final Path ARP_TABLE = Path.of("/proc/net/arp");
+    private static final int ATF_COM = 0x02; // completed entry (hardware address is valid)
+
+    public record Observation(Instant lastSeen, PresenceDetectionType type, String macAddress) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(PassivePresenceCache.class);
+    private final Map<String, Observation> observations = new ConcurrentHashMap<>();
+
+    /* All access must be guarded by "this" */
+    private @Nullable Map<String, String> arpEntries;
+
+    /**
+     * Record a passive observation of a host.
+     *
+     * @param ipAddress the host address
+     * @param type how the host was observed
+     * @param macAddress the hardware address, or an empty string if not known
+     * @param time the time of the observation
+     */
+    public void observe(String ipAddress, PresenceDetectionType type, String macAddress, Instant time) {
+        observations.merge(ipAddress, new Observation(time, type, macAddress), (old, observed) -> {
+            if (old.lastSeen().isAfter(observed.lastSeen())) {
+                return old;
+            }
+            return observed.macAddress().isEmpty() ? new Observation(time, type, old.macAddress()) : observed;
+        });
+    }
+
+    /**
+     * Returns the last observation of a host, or <code>null</code> if it was not observed yet.
+     */
+    public @Nullable Observation getObservation(String ipAddress) {
+        return observations.get(ipAddress);
+    }
+
+    /**
+     * Returns true if the ARP cache of the operating system can be observed.
+     */
+    public boolean isArpTableAvailable() {
+        return Files.isReadable(ARP_TABLE);
+    }
+
+    /**
+     * Read the ARP cache of the operating system and record new or changed entries.
+     */
+    public void refreshArpTable() {
+        try {
+            updateArpTable(Files.readAllLines(ARP_TABLE), Instant.now());
+        } catch (IOException e) {
+            logger.debug("Failed to read the ARP table: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Process the content of the ARP table in the format of <code>/proc/net/arp</code>. The first call only
+     * initializes the known entries.
+     *
+     * @param lines the lines of the table, including the header
+     * @param now the time of the observation
+     */
+    synchronized void updateArpTable(List<String> lines, Instant now) {
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 1; i < lines.size(); i++) {
+            String[] fields = lines.get(i).trim().split("\\s+");
+            if (fields.length < 4) {
+                continue;
+            }
+            try {
+                int flags = Integer.decode(fields[2]);
+                if ((flags & ATF_COM) != 0) {
+                    entries.put(fields[0], fields[3].toLowerCase(Locale.ROOT));
+                }
+            } catch (NumberFormatException e) {
+                logger.trace("Invalid ARP table entry: {}", lines.get(i));
+            }
+        }
+
+        Map<String, String> previous = arpEntries;
+        arpEntries = entries;
+        if (previous == null) {
+            return;
+        }
+        entries.forEach((ipAddress, macAddress) -> {
+            if (!macAddress.equals(previous.get(ipAddress))) {
+                logger.trace("ARP entry for {} resolved to {}", ipAddress, macAddress);
+                observe(ipAddress, PresenceDetectionType.ARP_CACHE, macAddress, now);
+            }
+        });
+    }
+}
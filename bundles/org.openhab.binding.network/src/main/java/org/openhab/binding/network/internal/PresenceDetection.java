@@ -32,9 +32,11 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.PassivePresenceCache.Observation;
 import org.openhab.binding.network.internal.dhcp.DHCPListenService;
 import org.openhab.binding.network.internal.dhcp.DHCPPacketListenerServer;
 import org.openhab.binding.network.internal.dhcp.IPRequestReceivedCallback;
@@ -42,6 +44,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
 import org.slf4j.Logger;
@@ -96,6 +99,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private String lastReachableNetworkInterfaceName = "";
 
     private final Executor executor;
+    private @Nullable PresenceProbeEngine probeEngine;
+    private @Nullable PassivePresenceCache passivePresenceCache;
+    private Duration passivePresenceTime = Duration.ZERO;
 
     public PresenceDetection(final PresenceDetectionListener updateListener, Duration cacheDeviceStateTime,
             Executor executor) {
@@ -167,6 +173,28 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.preferResponseTimeAsLatency = preferResponseTimeAsLatency;
     }
 
+    /**
+     * Sets the shared {@link PresenceProbeEngine} used for TCP connection attempts and instead of ICMP pings.
+     *
+     * @param probeEngine the engine, or <code>null</code> to use the external tools and blocking sockets
+     */
+    public void setProbeEngine(@Nullable PresenceProbeEngine probeEngine) {
+        this.probeEngine = probeEngine;
+    }
+
+    /**
+     * Sets the shared {@link PassivePresenceCache}. If the host was observed passively within the given time, no
+     * active presence detection is performed.
+     *
+     * @param passivePresenceCache the cache, or <code>null</code> to always perform an active presence detection
+     * @param passivePresenceTime the maximum age of a passive observation, {@link Duration#ZERO} to disable
+     */
+    public void setPassivePresenceCache(@Nullable PassivePresenceCache passivePresenceCache,
+            Duration passivePresenceTime) {
+        this.passivePresenceCache = passivePresenceCache;
+        this.passivePresenceTime = passivePresenceTime;
+    }
+
     /**
      * Sets the ping method. This method will perform a feature test. If {@link IpPingMethodEnum#SYSTEM_PING}
      * does not work on this system, {@link IpPingMethodEnum#JAVA_PING} will be used instead.
@@ -351,13 +379,23 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @return a {@link CompletableFuture} for obtaining the {@link PresenceDetectionValue}
      */
     public CompletableFuture<PresenceDetectionValue> performPresenceDetection() {
+        Observation observation = getPassiveObservation();
+        if (observation != null && tcpPorts.isEmpty()) {
+            PresenceDetectionValue passiveValue = passivePresence(observation);
+            logger.debug("Sending listener final result: {}", passiveValue);
+            updateListener.finalDetectionResult(passiveValue);
+            return CompletableFuture.completedFuture(passiveValue);
+        }
+        // a host which has been observed recently is not pinged, but the configured services are still checked
+        boolean pingHost = observation == null;
+
         Set<String> interfaceNames = null;
 
         detectionChecks = tcpPorts.size();
-        if (pingMethod != IpPingMethodEnum.DISABLED) {
+        if (pingHost && pingMethod != IpPingMethodEnum.DISABLED) {
             detectionChecks += 1;
         }
-        if (arpPingMethod.canProceed) {
+        if (pingHost && arpPingMethod.canProceed) {
             if (!lastReachableNetworkInterfaceName.isEmpty()) {
                 interfaceNames = Set.of(lastReachableNetworkInterfaceName);
             } else if (!networkInterfaceNames.isEmpty()) {
@@ -377,8 +415,18 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        PresenceProbeEngine probeEngine = this.probeEngine;
 
         for (Integer tcpPort : tcpPorts) {
+            if (probeEngine != null) {
+                addProbeDetection(completableFutures, address -> probeEngine.tcpProbe(address, tcpPort, timeout),
+                        pingResult -> {
+                            if (pingResult.isSuccess()) {
+                                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+                            }
+                        });
+                continue;
+            }
             addAsyncDetection(completableFutures, () -> {
                 performServicePing(pdv, tcpPort);
             });
@@ -386,7 +434,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
         // each own executor for each network interface for other tools
-        if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+        if (pingHost && arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
             addAsyncDetection(completableFutures, () -> {
                 performArpPing(pdv, "");
             });
@@ -399,7 +447,20 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         // ICMP ping
-        if (pingMethod != IpPingMethodEnum.DISABLED) {
+        if (!pingHost) {
+            logger.trace("{} has been observed recently, skipping pings", hostname);
+        } else if (pingMethod != IpPingMethodEnum.DISABLED && probeEngine != null) {
+            // Hosts which silently drop the UDP probe are checked with the configured ping method
+            addProbeDetection(completableFutures, address -> probeEngine.udpProbe(address, timeout), pingResult -> {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                } else if (pingMethod == IpPingMethodEnum.JAVA_PING) {
+                    performJavaPing(pdv);
+                } else {
+                    performSystemPing(pdv);
+                }
+            });
+        } else if (pingMethod != IpPingMethodEnum.DISABLED) {
             addAsyncDetection(completableFutures, () -> {
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
@@ -437,10 +498,60 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }, executor);
     }
 
+    /**
+     * Returns the passive observation of the host, if it has been observed within the passive presence time.
+     */
+    private @Nullable Observation getPassiveObservation() {
+        PassivePresenceCache passivePresenceCache = this.passivePresenceCache;
+        if (passivePresenceCache == null || passivePresenceTime.isZero()) {
+            return null;
+        }
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            return null;
+        }
+        Observation observation = passivePresenceCache.getObservation(destinationAddress.getHostAddress());
+        if (observation == null || observation.lastSeen().isBefore(Instant.now().minus(passivePresenceTime))) {
+            return null;
+        }
+        logger.trace("{} was observed by {} at {}", hostname, observation.type(), observation.lastSeen());
+        return observation;
+    }
+
+    /**
+     * Creates the detection value of a host which has been observed passively.
+     */
+    private PresenceDetectionValue passivePresence(Observation observation) {
+        PresenceDetectionValue pdv = new PresenceDetectionValue(hostname, Duration.ZERO);
+        pdv.addReachableDetectionType(observation.type());
+        synchronized (this) {
+            Instant lastSeen = this.lastSeen;
+            if (lastSeen == null || lastSeen.isBefore(observation.lastSeen())) {
+                this.lastSeen = observation.lastSeen();
+            }
+            updateListener.partialDetectionResult(pdv);
+        }
+        return pdv;
+    }
+
     private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable) {
         completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executor));
     }
 
+    private void addProbeDetection(List<CompletableFuture<Void>> completableFutures,
+            Function<InetAddress, CompletableFuture<PingResult>> probe, Consumer<PingResult> resultHandler) {
+        // resolving the destination address may block, don't do it on the caller thread
+        completableFutures.add(CompletableFuture.supplyAsync(() -> destination.getValue(), executor)
+                .thenCompose(destinationAddress -> {
+                    if (destinationAddress == null) {
+                        logger.trace("The destinationAddress for {} is null", hostname);
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    // don't process the result on the thread of the probe engine
+                    return probe.apply(destinationAddress).thenAcceptAsync(resultHandler, executor);
+                }));
+    }
+
     /**
      * Creates a new {@link PresenceDetectionValue} when a host is reachable. Also updates the {@link #lastSeen}
      * value and sends a partial detection result to the {@link #updateListener}.
@@ -599,6 +710,10 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     @Override
     public void dhcpRequestReceived(String ipAddress) {
+        PassivePresenceCache passivePresenceCache = this.passivePresenceCache;
+        if (passivePresenceCache != null) {
+            passivePresenceCache.observe(ipAddress, DHCP_REQUEST, "", Instant.now());
+        }
         updateReachable(DHCP_REQUEST, Duration.ZERO);
     }
 
@@ -25,5 +25,7 @@ public enum PresenceDetectionType {
     ARP_PING,
     ICMP_PING,
     TCP_CONNECTION,
-    DHCP_REQUEST
+    DHCP_REQUEST,
+    /** The host has been observed in the ARP cache of the operating system, without being pinged */
+    ARP_CACHE
 }
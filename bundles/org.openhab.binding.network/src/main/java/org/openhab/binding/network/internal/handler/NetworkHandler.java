@@ -32,11 +32,13 @@ import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.NetworkBindingConfigurationListener;
 import org.openhab.binding.network.internal.NetworkBindingConstants;
 import org.openhab.binding.network.internal.NetworkHandlerConfiguration;
+import org.openhab.binding.network.internal.PassivePresenceCache;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.WakeOnLanPacketSender;
 import org.openhab.binding.network.internal.action.NetworkActions;
+import org.openhab.binding.network.internal.utils.PresenceProbeEngine;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -86,17 +88,33 @@ public class NetworkHandler extends BaseThingHandler
     private volatile int retryCounter = 0;
     private final ScheduledExecutorService executor;
     private final ExecutorService resolver;
+    private final @Nullable PresenceProbeEngine probeEngine;
+    private final @Nullable PassivePresenceCache passivePresenceCache;
 
     /**
      * Creates a new instance using the specified parameters.
      */
     public NetworkHandler(Thing thing, ScheduledExecutorService executor, ExecutorService resolver,
             boolean isTCPServiceDevice, NetworkBindingConfiguration configuration) {
+        this(thing, executor, resolver, isTCPServiceDevice, configuration, null, null);
+    }
+
+    /**
+     * Creates a new instance using the specified parameters.
+     *
+     * @param probeEngine the shared probe engine, used if enabled by the binding configuration
+     * @param passivePresenceCache the shared passive presence cache, used if enabled by the binding configuration
+     */
+    public NetworkHandler(Thing thing, ScheduledExecutorService executor, ExecutorService resolver,
+            boolean isTCPServiceDevice, NetworkBindingConfiguration configuration,
+            @Nullable PresenceProbeEngine probeEngine, @Nullable PassivePresenceCache passivePresenceCache) {
         super(thing);
         this.executor = executor;
         this.resolver = resolver;
         this.isTCPServiceDevice = isTCPServiceDevice;
         this.configuration = configuration;
+        this.probeEngine = probeEngine;
+        this.passivePresenceCache = passivePresenceCache;
         this.configuration.addNetworkBindingConfigurationListener(this);
     }
 
@@ -204,6 +222,9 @@ public class NetworkHandler extends BaseThingHandler
         presenceDetection.setHostname(config.hostname);
         presenceDetection.setNetworkInterfaceNames(config.networkInterfaceNames);
         presenceDetection.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+        presenceDetection.setProbeEngine(getProbeEngine());
+        presenceDetection.setPassivePresenceCache(passivePresenceCache,
+                Duration.ofSeconds(Math.max(0, configuration.passivePresenceTimeInS)));
 
         if (isTCPServiceDevice) {
             Integer port = config.port;
@@ -277,10 +298,17 @@ public class NetworkHandler extends BaseThingHandler
             PresenceDetection pd = presenceDetection;
             if (pd != null) {
                 pd.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+                pd.setProbeEngine(getProbeEngine());
+                pd.setPassivePresenceCache(passivePresenceCache,
+                        Duration.ofSeconds(Math.max(0, configuration.passivePresenceTimeInS)));
             }
         }
     }
 
+    private @Nullable PresenceProbeEngine getProbeEngine() {
+        return configuration.useProbeEngine && PresenceProbeEngine.isSupported() ? probeEngine : null;
+    }
+
     @Override
     public Collection<Class<? extends ThingHandlerService>> getServices() {
         return List.of(NetworkActions.class);
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A fixed bucket histogram of probe latencies, plus a counter for failed probes.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogram {
+    // upper bounds of the buckets in milliseconds, the last bucket holds all larger values
+    private static final long[] BOUNDS_MS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MS.length + 1);
+    private final AtomicLong failures = new AtomicLong();
+
+    public void record(Duration latency) {
+        long millis = latency.toMillis();
+        int bucket = 0;
+        while (bucket < BOUNDS_MS.length && millis >= BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+    }
+
+    public void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given percentile.
+     *
+     * @param percentile the percentile (0-100)
+     * @return the latency, or {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        long threshold = (long) Math.ceil(count * percentile / 100.0);
+        long sum = 0;
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            sum += buckets.get(i);
+            if (sum >= threshold) {
+                return Duration.ofMillis(BOUNDS_MS[i]);
+            }
+        }
+        return Duration.ofMillis(Long.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LatencyHistogram{count=").append(getCount()).append(", failures=")
+                .append(getFailures());
+        for (int i = 0; i < buckets.length(); i++) {
+            long value = buckets.get(i);
+            if (value > 0) {
+                sb.append(", ").append(i < BOUNDS_MS.length ? "<" + BOUNDS_MS[i] : ">=" + BOUNDS_MS[i - 1])
+                        .append("ms=").append(value);
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.net.PortUnreachableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link PresenceProbeEngine} performs presence probes for all things on a single thread, without spawning
+ * external processes. All probes are non-blocking channels multiplexed by one {@link Selector}, each probe has its own
+ * timeout.
+ *
+ * Two kinds of probes are supported:
+ * <ul>
+ * <li>UDP probe: a datagram is sent to a port which is normally closed. A host which is up replies with an ICMP port
+ * unreachable message, which is reported to the connected channel. This replaces the ICMP echo request, which would
+ * need a raw socket. The datagram is resent to compensate for packet loss and hosts in power save mode.
+ * <li>TCP probe: a connection attempt to the given port. If the host reports that it is unreachable (e.g. the ARP
+ * resolution failed because the device was sleeping), the attempt is repeated while the timeout has not expired.
+ * </ul>
+ *
+ * The engine is only used on Linux, where the ICMP errors are reliably reported to connected datagram channels.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProbeEngine {
+    private static final int UDP_PROBE_PORT = 33434; // first traceroute port, normally closed
+    private static final int UDP_PROBE_ATTEMPTS = 3;
+    private static final long TCP_RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long STATISTICS_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(15);
+    private static final String THREAD_NAME = "OH-binding-network-probe";
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceProbeEngine.class);
+    private final Queue<Probe> submitted = new ConcurrentLinkedQueue<>();
+    private final LatencyHistogram udpLatency = new LatencyHistogram();
+    private final LatencyHistogram tcpLatency = new LatencyHistogram();
+
+    /* All access must be guarded by "this" */
+    private @Nullable Selector selector;
+    private boolean stopped;
+
+    /**
+     * Returns true if the engine can be used on this system.
+     */
+    public static boolean isSupported() {
+        String os = System.getProperty("os.name");
+        return os != null && os.toLowerCase(Locale.ROOT).contains("linux");
+    }
+
+    /**
+     * Send a datagram to a closed UDP port of the host and wait for the ICMP port unreachable reply.
+     *
+     * @param address the host address
+     * @param timeout the time to wait for a reply
+     * @return the {@link PingResult}, which is not successful if the host did not reply within the timeout
+     */
+    public CompletableFuture<PingResult> udpProbe(InetAddress address, Duration timeout) {
+        return submit(new UdpProbe(address, timeout));
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port.
+     *
+     * @param address the host address
+     * @param port the TCP port
+     * @param timeout the timeout before the connection attempt is aborted
+     * @return the {@link PingResult} of connecting to the given port
+     */
+    public CompletableFuture<PingResult> tcpProbe(InetAddress address, int port, Duration timeout) {
+        return submit(new TcpProbe(address, port, timeout));
+    }
+
+    public LatencyHistogram getUdpLatency() {
+        return udpLatency;
+    }
+
+    public LatencyHistogram getTcpLatency() {
+        return tcpLatency;
+    }
+
+    /**
+     * Stop the event loop. Pending probes and probes submitted afterwards are completed as failed.
+     */
+    public void stop() {
+        Selector selector;
+        synchronized (this) {
+            stopped = true;
+            selector = this.selector;
+            this.selector = null;
+        }
+        if (selector != null) {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close the probe selector", e);
+            }
+        }
+    }
+
+    private CompletableFuture<PingResult> submit(Probe probe) {
+        Selector selector;
+        synchronized (this) {
+            if (stopped) {
+                probe.complete(false, System.nanoTime());
+                return probe.future;
+            }
+            selector = this.selector;
+            if (selector == null) {
+                try {
+                    selector = Selector.open();
+                } catch (IOException e) {
+                    probe.future.completeExceptionally(e);
+                    return probe.future;
+                }
+                this.selector = selector;
+                Selector loopSelector = selector;
+                Thread thread = new Thread(() -> run(loopSelector), THREAD_NAME);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            // queued under the lock, so that the probe is either processed or completed by the exiting loop
+            submitted.add(probe);
+        }
+        selector.wakeup();
+        return probe.future;
+    }
+
+    private void run(Selector selector) {
+        List<Probe> active = new ArrayList<>();
+        long nextStatistics = System.nanoTime() + STATISTICS_INTERVAL_NANOS;
+        logger.debug("Presence probe engine started");
+        try {
+            while (selector.isOpen()) {
+                long now = System.nanoTime();
+                Probe probe;
+                while ((probe = submitted.poll()) != null) {
+                    // added before it is started, so that it is completed if the selector is closed meanwhile
+                    active.add(probe);
+                    probe.start(selector, now);
+                }
+
+                long next = nextStatistics;
+                for (Probe p : active) {
+                    next = Math.min(next, p.nextAction);
+                }
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(next - now)));
+
+                now = System.nanoTime();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.attachment() instanceof Probe p) {
+                        p.ready(key, now);
+                    }
+                }
+                for (Probe p : active) {
+                    if (!p.isDone() && now - p.nextAction >= 0) {
+                        p.tick(selector, now);
+                    }
+                }
+                active.removeIf(Probe::isDone);
+
+                if (now - nextStatistics >= 0) {
+                    logger.debug("Presence probe latencies: UDP {}, TCP {}", udpLatency, tcpLatency);
+                    nextStatistics = now + STATISTICS_INTERVAL_NANOS;
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.trace("Presence probe selector closed: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                if (this.selector == selector) {
+                    this.selector = null;
+                }
+                // no further probes are queued for this loop
+                active.addAll(submitted);
+                submitted.clear();
+            }
+            long now = System.nanoTime();
+            active.stream().filter(p -> !p.isDone()).forEach(p -> p.complete(false, now));
+            logger.debug("Presence probe engine stopped, latencies: UDP {}, TCP {}", udpLatency, tcpLatency);
+        }
+    }
+
+    private abstract class Probe {
+        final InetAddress address;
+        final long started = System.nanoTime();
+        final long deadline;
+        final LatencyHistogram histogram;
+        final CompletableFuture<PingResult> future = new CompletableFuture<>();
+        long nextAction;
+        @Nullable
+        SelectableChannel channel;
+
+        Probe(InetAddress address, Duration timeout, LatencyHistogram histogram) {
+            this.address = address;
+            this.deadline = started + timeout.toNanos();
+            this.nextAction = deadline;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Open the channel and send the first request.
+         */
+        abstract void start(Selector selector, long now);
+
+        /**
+         * Handle a channel event.
+         */
+        abstract void ready(SelectionKey key, long now);
+
+        /**
+         * Handle a time based action: retry or timeout.
+         */
+        void tick(Selector selector, long now) {
+            complete(false, now);
+        }
+
+        boolean isDone() {
+            return future.isDone();
+        }
+
+        void complete(boolean success, long now) {
+            closeChannel();
+            Duration latency = Duration.ofNanos(now - started);
+            if (success) {
+                histogram.record(latency);
+            } else {
+                histogram.recordFailure();
+            }
+            future.complete(new PingResult(success, latency));
+        }
+
+        void closeChannel() {
+            SelectableChannel channel = this.channel;
+            this.channel = null;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    logger.trace("Failed to close probe channel for {}", address, e);
+                }
+            }
+        }
+    }
+
+    private class UdpProbe extends Probe {
+        private final ByteBuffer request = ByteBuffer.allocate(1);
+        private final ByteBuffer response = ByteBuffer.allocate(64);
+        private final long retryInterval;
+        private int attempts;
+
+        UdpProbe(InetAddress address, Duration timeout) {
+            super(address, timeout, udpLatency);
+            retryInterval = timeout.toNanos() / UDP_PROBE_ATTEMPTS;
+        }
+
+        @Override
+        void start(Selector selector, long now) {
+            try {
+                DatagramChannel channel = DatagramChannel.open();
+                this.channel = channel;
+                channel.configureBlocking(false);
+                channel.connect(new InetSocketAddress(address, UDP_PROBE_PORT));
+                channel.register(selector, SelectionKey.OP_READ, this);
+                send(channel, now);
+            } catch (PortUnreachableException e) {
+                complete(true, now);
+            } catch (IOException e) {
+                logger.trace("UDP probe to {} failed: {}", address, e.getMessage());
+                complete(false, now);
+            }
+        }
+
+        private void send(DatagramChannel channel, long now) throws IOException {
+            attempts++;
+            request.clear();
+            channel.write(request);
+            nextAction = attempts < UDP_PROBE_ATTEMPTS ? Math.min(now + retryInterval, deadline) : deadline;
+        }
+
+        @Override
+        void ready(SelectionKey key, long now) {
+            if (!(channel instanceof DatagramChannel datagramChannel)) {
+                return;
+            }
+            try {
+                response.clear();
+                datagramChannel.read(response);
+                // the port is open and a service replied
+                complete(true, now);
+            } catch (PortUnreachableException e) {
+                complete(true, now);
+            } catch (IOException e) {
+                // e.g. no route to host: the ARP resolution failed, try again with the next attempt
+                logger.trace("UDP probe to {} failed: {}", address, e.getMessage());
+            }
+        }
+
+        @Override
+        void tick(Selector selector, long now) {
+            if (now - deadline < 0 && channel instanceof DatagramChannel datagramChannel) {
+                try {
+                    send(datagramChannel, now);
+                    return;
+                } catch (PortUnreachableException e) {
+                    // reply to an earlier attempt
+                    complete(true, now);
+                    return;
+                } catch (IOException e) {
+                    logger.trace("UDP probe to {} failed: {}", address, e.getMessage());
+                }
+            }
+            complete(false, now);
+        }
+    }
+
+    private class TcpProbe extends Probe {
+        private final int port;
+
+        TcpProbe(InetAddress address, int port, Duration timeout) {
+            super(address, timeout, tcpLatency);
+            this.port = port;
+        }
+
+        @Override
+        void start(Selector selector, long now) {
+            nextAction = deadline;
+            try {
+                SocketChannel channel = SocketChannel.open();
+                this.channel = channel;
+                channel.configureBlocking(false);
+                if (channel.connect(new InetSocketAddress(address, port))) {
+                    complete(true, now);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, this);
+                }
+            } catch (IOException e) {
+                failed(e, now);
+            }
+        }
+
+        @Override
+        void ready(SelectionKey key, long now) {
+            if (!(channel instanceof SocketChannel socketChannel)) {
+                return;
+            }
+            try {
+                if (socketChannel.finishConnect()) {
+                    complete(true, now);
+                }
+            } catch (IOException e) {
+                failed(e, now);
+            }
+        }
+
+        private void failed(IOException e, long now) {
+            logger.trace("Could not connect to {}:{} {}", address, port, e.getMessage());
+            closeChannel();
+            if (e instanceof NoRouteToHostException && deadline - now > TCP_RETRY_DELAY_NANOS) {
+                // the device might be sleeping, try again
+                nextAction = now + TCP_RETRY_DELAY_NANOS;
+            } else {
+                complete(false, now);
+            }
+        }
+
+        @Override
+        void tick(Selector selector, long now) {
+            if (channel == null && now - deadline < 0) {
+                start(selector, now);
+            } else {
+                complete(false, now);
+            }
+        }
+    }
+}
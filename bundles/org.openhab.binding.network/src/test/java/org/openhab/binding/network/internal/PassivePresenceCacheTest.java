@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.PassivePresenceCache.Observation;
+
+/**
+ * Tests cases for {@link PassivePresenceCache}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class PassivePresenceCacheTest {
+    private static final String HEADER = "IP address       HW type     Flags       HW address            Mask     Device";
+    private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Instant T1 = T0.plusSeconds(10);
+    private static final Instant T2 = T0.plusSeconds(20);
+
+    private final PassivePresenceCache cache = new PassivePresenceCache();
+
+    @Test
+    public void initialArpTableIsNoEvidence() {
+        cache.updateArpTable(List.of(HEADER, "192.168.1.10     0x1         0x2         aa:bb:cc:dd:ee:01     *        eth0"),
+                T0);
+
+        assertNull(cache.getObservation("192.168.1.10"));
+    }
+
+    @Test
+    public void newArpEntryIsObserved() {
+        cache.updateArpTable(List.of(HEADER), T0);
+        cache.updateArpTable(List.of(HEADER, "192.168.1.10     0x1         0x2         AA:BB:CC:DD:EE:01     *        eth0",
+                "192.168.1.11     0x1         0x0         00:00:00:00:00:00     *        eth0"), T1);
+
+        Observation observation = cache.getObservation("192.168.1.10");
+        assertNotNull(observation);
+        assertEquals(T1, observation.lastSeen());
+        assertEquals(PresenceDetectionType.ARP_CACHE, observation.type());
+        assertEquals("aa:bb:cc:dd:ee:01", observation.macAddress());
+        // incomplete entries are no evidence
+        assertNull(cache.getObservation("192.168.1.11"));
+    }
+
+    @Test
+    public void unchangedArpEntryIsNotObservedAgain() {
+        List<String> table = List.of(HEADER,
+                "192.168.1.10     0x1         0x2         aa:bb:cc:dd:ee:01     *        eth0");
+        cache.updateArpTable(List.of(HEADER), T0);
+        cache.updateArpTable(table, T1);
+        cache.updateArpTable(table, T2);
+
+        Observation observation = cache.getObservation("192.168.1.10");
+        assertNotNull(observation);
+        assertEquals(T1, observation.lastSeen());
+    }
+
+    @Test
+    public void changedOrReappearingArpEntryIsObserved() {
+        cache.updateArpTable(List.of(HEADER, "192.168.1.10     0x1         0x2         aa:bb:cc:dd:ee:01     *        eth0"),
+                T0);
+        cache.updateArpTable(List.of(HEADER, "192.168.1.10     0x1         0x2         aa:bb:cc:dd:ee:02     *        eth0"),
+                T1);
+
+        Observation observation = cache.getObservation("192.168.1.10");
+        assertNotNull(observation);
+        assertEquals(T1, observation.lastSeen());
+        assertEquals("aa:bb:cc:dd:ee:02", observation.macAddress());
+
+        cache.updateArpTable(List.of(HEADER), T1);
+        cache.updateArpTable(List.of(HEADER, "192.168.1.10     0x1         0x2         aa:bb:cc:dd:ee:02     *        eth0"),
+                T2);
+
+        observation = cache.getObservation("192.168.1.10");
+        assertNotNull(observation);
+        assertEquals(T2, observation.lastSeen());
+    }
+
+    @Test
+    public void observeKeepsNewestObservationAndMacAddress() {
+        cache.observe("192.168.1.10", PresenceDetectionType.ARP_CACHE, "aa:bb:cc:dd:ee:01", T1);
+        cache.observe("192.168.1.10", PresenceDetectionType.DHCP_REQUEST, "", T0);
+
+        Observation observation = cache.getObservation("192.168.1.10");
+        assertNotNull(observation);
+        assertEquals(T1, observation.lastSeen());
+        assertEquals(PresenceDetectionType.ARP_CACHE, observation.type());
+
+        cache.observe("192.168.1.10", PresenceDetectionType.DHCP_REQUEST, "", T2);
+
+        observation = cache.getObservation("192.168.1.10");
+        assertNotNull(observation);
+        assertEquals(T2, observation.lastSeen());
+        assertEquals(PresenceDetectionType.DHCP_REQUEST, observation.type());
+        assertEquals("aa:bb:cc:dd:ee:01", observation.macAddress());
+    }
+}
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -156,6 +157,45 @@ public class PresenceDetectionTest {
         assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
     }
 
+    @Test
+    public void passivePresenceWithoutServicePorts() {
+        PassivePresenceCache passivePresenceCache = new PassivePresenceCache();
+        passivePresenceCache.observe("127.0.0.1", PresenceDetectionType.ARP_CACHE, "", Instant.now());
+        subject.setPassivePresenceCache(passivePresenceCache, Duration.ofMinutes(1));
+        subject.setServicePorts(Set.of());
+
+        PresenceDetectionValue value = subject.performPresenceDetection().join();
+
+        // a recently observed host is not probed
+        verify(subject, never()).performSystemPing(any());
+        verify(subject, never()).performArpPing(any(), any());
+        verify(subject, never()).performServicePing(any(), anyInt());
+        assertTrue(value.isReachable());
+        assertThat(value.getSuccessfulDetectionTypes(), is("ARP_CACHE"));
+        verify(listener).finalDetectionResult(value);
+    }
+
+    @Test
+    public void passivePresenceWithServicePorts() throws IOException {
+        doReturn(new PingResult(false, Duration.ofMillis(10))).when(networkUtils).servicePing(anyString(), anyInt(),
+                any());
+        PassivePresenceCache passivePresenceCache = new PassivePresenceCache();
+        passivePresenceCache.observe("127.0.0.1", PresenceDetectionType.DHCP_REQUEST, "", Instant.now());
+        subject.setPassivePresenceCache(passivePresenceCache, Duration.ofMinutes(1));
+
+        PresenceDetectionValue value = subject.performPresenceDetection().join();
+
+        // the configured service is still checked, only the pings are skipped
+        assertThat(subject.detectionChecks, is(1));
+        verify(subject, never()).performSystemPing(any());
+        verify(subject, never()).performArpPing(any(), any());
+        verify(subject).performServicePing(any(), eq(1010));
+        assertFalse(value.isReachable());
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener).finalDetectionResult(pdvCapture.capture());
+        assertFalse(pdvCapture.getValue().isReachable());
+    }
+
     @Test
     public void cacheTest() throws InterruptedException, IOException {
         PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link PresenceProbeEngine} against the loopback interface.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceProbeEngineTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private final PresenceProbeEngine engine = new PresenceProbeEngine();
+
+    @AfterEach
+    public void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    public void tcpProbeOpenPort() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            PingResult result = engine.tcpProbe(InetAddress.getLoopbackAddress(), server.getLocalPort(), TIMEOUT)
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(result.isSuccess());
+            assertEquals(1, engine.getTcpLatency().getCount());
+        }
+    }
+
+    @Test
+    public void tcpProbeClosedPort() throws Exception {
+        int port;
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = server.getLocalPort();
+        }
+        PingResult result = engine.tcpProbe(InetAddress.getLoopbackAddress(), port, TIMEOUT).get(5, TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+        assertEquals(1, engine.getTcpLatency().getFailures());
+    }
+
+    @Test
+    public void multiplexedProbes() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 100, InetAddress.getLoopbackAddress())) {
+            List<CompletableFuture<PingResult>> results = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                results.add(engine.tcpProbe(InetAddress.getLoopbackAddress(), server.getLocalPort(), TIMEOUT));
+            }
+            for (CompletableFuture<PingResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+        }
+    }
+
+    @Test
+    public void udpProbe() throws Exception {
+        assumeTrue(PresenceProbeEngine.isSupported());
+        PingResult result = engine.udpProbe(InetAddress.getLoopbackAddress(), TIMEOUT).get(5, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertTrue(result.getExecutionTime().compareTo(TIMEOUT) < 0);
+    }
+
+    @Test
+    public void stopCompletesPendingProbes() throws IOException, InterruptedException {
+        // TEST-NET-1, never answers
+        CompletableFuture<PingResult> result = engine.tcpProbe(InetAddress.getByName("192.0.2.1"), 80,
+                Duration.ofMinutes(1));
+        Thread.sleep(100);
+        engine.stop();
+        assertFalse(result.join().isSuccess());
+    }
+
+    @Test
+    public void probesAfterStopFail() throws Exception {
+        engine.stop();
+        // completed without starting a new event loop
+        CompletableFuture<PingResult> result = engine.udpProbe(InetAddress.getLoopbackAddress(), TIMEOUT);
+        assertTrue(result.isDone());
+        assertFalse(result.get().isSuccess());
+    }
+
+    @Test
+    public void latencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMillis(3));
+        histogram.record(Duration.ofMillis(4));
+        histogram.record(Duration.ofMillis(150));
+        histogram.recordFailure();
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(1, histogram.getFailures());
+        assertEquals(Duration.ofMillis(5), histogram.getPercentile(50));
+        assertEquals(Duration.ofMillis(200), histogram.getPercentile(100));
+    }
+}
@@ -331,6 +331,8 @@ public class ShellyBindingConstants {
     public static final int UPDATE_SKIP_COUNT = 20; // update every x triggers or when a key was pressed
     public static final int UPDATE_MIN_DELAY = 15;// update every x triggers or when a key was pressed
     public static final int UPDATE_SETTINGS_INTERVAL_SECONDS = 60; // check for updates every x sec
+    public static final int UPDATE_EVENT_STREAM_INTERVAL_SECONDS = 900; // poll interval while events are received
+    public static final int MAX_CONCURRENT_POLLS = 8; // max. number of regular status polls running at the same time
     public static final int HEALTH_CHECK_INTERVAL_SEC = 300; // Health check interval, 5min
     public static final int VIBRATION_FILTER_SEC = 5; // Absorb duplicate vibration events for xx sec
 
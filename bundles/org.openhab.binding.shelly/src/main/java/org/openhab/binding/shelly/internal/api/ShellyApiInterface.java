@@ -35,6 +35,15 @@ import org.openhab.binding.shelly.internal.api1.Shelly1ApiJsonDTO.ShellyStatusSe
 public interface ShellyApiInterface extends ShellyDiscoveryInterface {
     boolean isInitialized();
 
+    /**
+     * Check if the device pushes its status changes, so regular polling is not required.
+     *
+     * @return true if the event stream of the device is connected and delivers updates
+     */
+    default boolean isEventStreamActive() {
+        return false;
+    }
+
     ShellySettingsStatus getStatus() throws ShellyApiException;
 
     void setLedStatus(String ledName, boolean value) throws ShellyApiException;
@@ -181,8 +181,9 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
             return;
         }
 
-        List<Option> options = response.getOptions().asSortedList();
+        // the CoIoT server dispatches all packets to all things, so check the sender first
         boolean match = response.getSourceContext().getPeerAddress().getAddress().equals(config.getDeviceIpAddress());
+        List<Option> options = response.getOptions().asSortedList();
         if (!match) {
             // We can't identify device by IP, so we need to check the CoAP header's Global Device ID
             for (Option opt : options) {
@@ -433,7 +434,8 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
         }
 
         // Parse Json,
-        CoIotGenericSensorList list = fromJson(gson, fixJSON(payload), CoIotGenericSensorList.class);
+        // payload was already fixed by processResponse()
+        CoIotGenericSensorList list = fromJson(gson, payload, CoIotGenericSensorList.class);
         if (list.generic == null) {
             logger.debug("{}: Sensor list has invalid format! Payload: {}", devId, payload);
             return;
@@ -571,6 +573,9 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
      * @param json to be checked/fixed
      */
     private static String fixJSON(String payload) {
+        if (payload.indexOf("}{") < 0 && payload.indexOf("][") < 0 && payload.indexOf("],,[") < 0) {
+            return payload; // regular case: nothing to fix
+        }
         String json = payload;
         json = json.replace("}{", "},{");
         json = json.replace("][", "],[");
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.api1;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link Shelly1CoapPacketFilter} detects repeated CoIoT status packets before they are dispatched to the thing
+ * handlers. Devices with a configured CoIoT peer send every status update by multicast and unicast, which results in
+ * the same packet being received twice within a few milliseconds.
+ *
+ * A packet is considered a repetition if the same device sent a packet with the same serial and payload within
+ * {@link #REPEAT_WINDOW_MS}. Battery powered devices reset the serial when they wake up (lower byte is 0), those
+ * packets are always passed so a new wake-up is never lost.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class Shelly1CoapPacketFilter {
+    static final long REPEAT_WINDOW_MS = 1000;
+
+    private record LastPacket(int serial, byte[] payload, long timestamp) {
+    }
+
+    private final Map<InetAddress, LastPacket> lastPackets = new ConcurrentHashMap<>();
+
+    /**
+     * Check if the packet is a repetition of the last packet received from the same device.
+     *
+     * @param source the device's IP address
+     * @param serial the serial from the CoIoT status option, -1 if not available
+     * @param payload the packet payload
+     * @param now the time the packet was received in milliseconds
+     * @return true if the packet should be discarded
+     */
+    boolean isRepeated(InetAddress source, int serial, byte[] payload, long now) {
+        if (serial == -1 || (serial & 0xFF) == 0) {
+            return false;
+        }
+        LastPacket last = lastPackets.put(source, new LastPacket(serial, payload, now));
+        return last != null && last.serial() == serial && now - last.timestamp() < REPEAT_WINDOW_MS
+                && Arrays.equals(last.payload(), payload);
+    }
+
+    void clear() {
+        lastPackets.clear();
+    }
+}
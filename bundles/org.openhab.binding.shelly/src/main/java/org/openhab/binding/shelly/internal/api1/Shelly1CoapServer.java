@@ -12,7 +12,7 @@
  */
 package org.openhab.binding.shelly.internal.api1;
 
-import static org.openhab.binding.shelly.internal.api1.Shelly1CoapJSonDTO.COIOT_PORT;
+import static org.openhab.binding.shelly.internal.api1.Shelly1CoapJSonDTO.*;
 
 import java.net.InetAddress;
 import java.net.SocketException;
@@ -25,6 +25,7 @@ import org.eclipse.californium.core.CoapServer;
 import org.eclipse.californium.core.coap.CoAP;
 import org.eclipse.californium.core.coap.CoAP.Code;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.Option;
 import org.eclipse.californium.core.coap.Request;
 import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.network.CoapEndpoint;
@@ -55,6 +56,7 @@ public class Shelly1CoapServer {
     private @Nullable UdpMulticastConnector statusConnector;
     private CoapServer server = new CoapServer(Configuration.getStandard(), COIOT_PORT);
     private final Set<Shelly1CoapListener> coapListeners = ConcurrentHashMap.newKeySet();
+    private final Shelly1CoapPacketFilter packetFilter = new Shelly1CoapPacketFilter();
 
     protected class ShellyStatusListener extends CoapResource {
         private Shelly1CoapServer listener;
@@ -107,6 +109,20 @@ public class Shelly1CoapServer {
     }
 
     protected void processResponse(Response response) {
+        // every listener checks the packet, drop repetitions before dispatching them to all things
+        int serial = -1;
+        for (Option opt : response.getOptions().getOthers()) {
+            if (opt.getNumber() == COIOT_OPTION_STATUS_SERIAL) {
+                serial = opt.getIntegerValue();
+                break;
+            }
+        }
+        if (packetFilter.isRepeated(response.getSourceContext().getPeerAddress().getAddress(), serial,
+                response.getPayload(), System.currentTimeMillis())) {
+            logger.trace("Repeated CoIoT packet from {} (serial={}) discarded",
+                    response.getSourceContext().getPeerAddress(), serial);
+            return;
+        }
         coapListeners.forEach(listener -> listener.processResponse(response));
     }
 
@@ -141,6 +157,7 @@ public class Shelly1CoapServer {
             server.stop();
             statusEndpoint.stop();
             coapListeners.clear();
+            packetFilter.clear();
             started = false;
             logger.debug("CoAP Listener stopped");
         }
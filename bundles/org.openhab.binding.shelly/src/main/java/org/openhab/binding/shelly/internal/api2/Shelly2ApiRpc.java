@@ -105,6 +105,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     protected volatile boolean initialized;
     protected final boolean alwaysOn;
     private @Nullable Shelly2RpcSocket rpcSocket;
+    private volatile boolean eventStreamActive; // NotifyStatus received on the current WebSocket session
     private @Nullable Shelly2AuthChallenge authInfo;
     private final WebSocketClient client;
     private final ScheduledExecutorService scheduler;
@@ -436,6 +437,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onConnect(InetSocketAddress deviceSocketAddr, boolean connected) {
+        eventStreamActive = false;
         thing = thingTable.getThing(deviceSocketAddr);
         logger.debug("{}: Get thing from thingTable for {}", thingName, deviceSocketAddr);
 
@@ -487,6 +489,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
         Shelly2NotifyStatus params = message.params;
         if (params != null) {
+            eventStreamActive = true;
             if (getThing().getThingStatusDetail() != ThingStatusDetail.FIRMWARE_UPDATING) {
                 getThing().setThingOnline();
             }
@@ -636,6 +639,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onClose(boolean inbound, int statusCode, String description) {
+        eventStreamActive = false;
         try {
             String reason = getString(description);
             logger.debug("{}: WebSocket connection closed, status = {}/{}", thingName, statusCode, reason);
@@ -655,6 +659,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onError(Throwable cause) {
+        eventStreamActive = false;
         if (logger.isDebugEnabled()) {
             if (cause instanceof EofException || cause instanceof EOFException) {
                 logger.debug("{}: WebSocket was closed ungracefully", thingName);
@@ -1317,6 +1322,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     }
 
     private void disconnect() {
+        eventStreamActive = false;
         Shelly2RpcSocket rpcSocket = this.rpcSocket;
         if (rpcSocket == null) {
             return;
@@ -1327,6 +1333,12 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
         rpcSocket.disconnect();
     }
 
+    @Override
+    public boolean isEventStreamActive() {
+        Shelly2RpcSocket rpcSocket = this.rpcSocket;
+        return alwaysOn && eventStreamActive && rpcSocket != null && rpcSocket.isConnected();
+    }
+
     public Shelly2RpctInterface getRpcHandler() {
         return this;
     }
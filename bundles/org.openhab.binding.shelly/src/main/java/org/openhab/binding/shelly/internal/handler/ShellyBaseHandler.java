@@ -27,6 +27,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -130,10 +132,14 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     private volatile boolean updateMarkerSet;
 
     // Scheduler
+    // shared by all things to prevent bursts of status requests when many online devices are due at the same time
+    private static final Semaphore POLL_PERMITS = new Semaphore(MAX_CONCURRENT_POLLS);
     private volatile double watchdog = now();
+    private double lastPoll = 0;
     protected int scheduledUpdates = 0;
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
+    private int pollOffset = 0;
     private boolean refreshSettings;
     private @Nullable ScheduledFuture<?> statusJob;
     private @Nullable ScheduledFuture<?> initJob;
@@ -624,6 +630,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
      * Update device status and channels
      */
     protected void refreshStatus() {
+        boolean permitAcquired = false;
         try {
             if (vibrationFilter > 0) {
                 vibrationFilter--;
@@ -632,14 +639,32 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
             }
 
             skipUpdate++;
-            if (refreshSettings || (scheduledUpdates > 0) || (skipUpdate % skipCount == 0)) {
+            boolean requested = refreshSettings || (scheduledUpdates > 0);
+            boolean poll = requested;
+            if (!requested && ((skipUpdate + pollOffset) % skipCount == 0) && isPollDue()) {
+                if (getThing().getStatus() != ThingStatus.ONLINE) {
+                    // don't take a permit, an unreachable device would hold it until the request times out
+                    poll = true;
+                } else {
+                    // regular poll: limit the number of concurrent requests across all devices, retry on the next
+                    // cycle
+                    permitAcquired = POLL_PERMITS.tryAcquire();
+                    poll = permitAcquired;
+                    if (!permitAcquired) {
+                        logger.trace("{}: Too many status polls in progress, retry in {}s", thingName,
+                                UPDATE_STATUS_INTERVAL_SECONDS);
+                        skipUpdate--;
+                    }
+                }
+            }
+            if (poll) {
                 ThingStatus thingStatus = getThing().getStatus();
                 if (!profile.isInitialized() || ((thingStatus == ThingStatus.OFFLINE))
                         || (getThingStatusDetail() == ThingStatusDetail.CONFIGURATION_PENDING)) {
                     logger.debug("{}: Status update triggered thing initialization", thingName);
                     initializeThing(); // may fire an exception if initialization failed
                 }
-                ShellySettingsStatus status = api.getStatus();
+                ShellySettingsStatus status = pollStatus();
                 boolean restarted = checkRestarted(status);
                 profile = getProfile(refreshSettings || restarted);
                 profile.status = status;
@@ -675,6 +700,9 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
             // sleep mode. Once the next update is successful the device goes back online
             handleApiException(e);
         } finally {
+            if (permitAcquired) {
+                POLL_PERMITS.release();
+            }
             if (scheduledUpdates > 0) {
                 --scheduledUpdates;
                 logger.trace("{}: {} more updates requested", thingName, scheduledUpdates);
@@ -686,6 +714,34 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
     }
 
+    /**
+     * Check if a regular status poll is required. While the device pushes its status changes (Gen2+ devices
+     * with an active WebSocket connection) only a long interval poll is done to refresh values not included in
+     * the notifications.
+     */
+    private boolean isPollDue() {
+        if (!api.isEventStreamActive() || (now() - lastPoll >= UPDATE_EVENT_STREAM_INTERVAL_SECONDS)) {
+            return true;
+        }
+        logger.trace("{}: Event stream is active, skip status poll", thingName);
+        return false;
+    }
+
+    private ShellySettingsStatus pollStatus() throws ShellyApiException {
+        long start = System.nanoTime();
+        stats.polls.incrementAndGet();
+        try {
+            ShellySettingsStatus status = api.getStatus();
+            lastPoll = now();
+            return status;
+        } catch (ShellyApiException e) {
+            stats.pollFailures.incrementAndGet();
+            throw e;
+        } finally {
+            stats.lastPollLatency.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
     @Override
     protected void updateStatus(ThingStatus status, ThingStatusDetail statusDetail, @Nullable String description) {
         // overloaded updateStatus() methods always call this so we clear the update marker flag by default here
@@ -1306,8 +1362,11 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     protected void startUpdateJob() {
         ScheduledFuture<?> statusJob = this.statusJob;
         if ((statusJob == null) || statusJob.isCancelled()) {
-            this.statusJob = scheduler.scheduleWithFixedDelay(this::refreshStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
-                    TimeUnit.SECONDS);
+            // spread the devices across the poll interval so they don't run their regular polls in lock step
+            long interval = TimeUnit.SECONDS.toMillis(UPDATE_STATUS_INTERVAL_SECONDS);
+            pollOffset = ThreadLocalRandom.current().nextInt(skipCount);
+            this.statusJob = scheduler.scheduleWithFixedDelay(this::refreshStatus,
+                    2000 + ThreadLocalRandom.current().nextLong(interval), interval, TimeUnit.MILLISECONDS);
             logger.debug("{}: Update status job started, interval={}*{}={}sec.", thingName, skipCount,
                     UPDATE_STATUS_INTERVAL_SECONDS, skipCount * UPDATE_STATUS_INTERVAL_SECONDS);
         }
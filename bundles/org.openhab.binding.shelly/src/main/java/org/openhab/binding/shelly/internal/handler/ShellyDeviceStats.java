@@ -44,6 +44,9 @@ public class ShellyDeviceStats {
     public final AtomicInteger protocolErrors = new AtomicInteger(0);
     public final AtomicInteger wifiRssi = new AtomicInteger(0);
     public final AtomicInteger maxInternalTemp = new AtomicInteger(0);
+    public final AtomicLong polls = new AtomicLong(0);
+    public final AtomicLong pollFailures = new AtomicLong(0);
+    public final AtomicLong lastPollLatency = new AtomicLong(0);
 
     public Map<String, String> asProperties() {
         Map<String, String> prop = new HashMap<>();
@@ -62,6 +65,9 @@ public class ShellyDeviceStats {
         prop.put("protocolErrors", String.valueOf(protocolErrors));
         prop.put("wifiRssi", String.valueOf(wifiRssi));
         prop.put("maxInternalTemp", String.valueOf(maxInternalTemp.get()));
+        prop.put("statusPolls", String.valueOf(polls));
+        prop.put("statusPollFailures", String.valueOf(pollFailures));
+        prop.put("lastPollLatencyMs", String.valueOf(lastPollLatency));
         return prop;
     }
 }
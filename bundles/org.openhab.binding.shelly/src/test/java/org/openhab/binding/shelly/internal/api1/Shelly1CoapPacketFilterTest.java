@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.api1;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Shelly1CoapPacketFilter}, replaying CoIoT status packets as they are received from devices with a
+ * CoIoT peer configured (each update is received by multicast and unicast).
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Shelly1CoapPacketFilterTest {
+    private static final byte[] STATUS_ON = "{\"G\":[[0,9103,0],[0,1101,1],[0,4101,42.5]]}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STATUS_OFF = "{\"G\":[[0,9103,0],[0,1101,0],[0,4101,0]]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static InetAddress address(String ip) throws UnknownHostException {
+        return InetAddress.getByName(ip);
+    }
+
+    @Test
+    public void testMulticastAndUnicastCopy() throws UnknownHostException {
+        Shelly1CoapPacketFilter filter = new Shelly1CoapPacketFilter();
+        InetAddress device = address("192.168.1.10");
+
+        assertThat(filter.isRepeated(device, 0x1201, STATUS_ON, 1000), is(false));
+        assertThat(filter.isRepeated(device, 0x1201, STATUS_ON, 1003), is(true));
+        assertThat(filter.isRepeated(device, 0x1202, STATUS_OFF, 5000), is(false));
+        assertThat(filter.isRepeated(device, 0x1202, STATUS_OFF, 5002), is(true));
+    }
+
+    @Test
+    public void testPeriodicUpdatesArePassed() throws UnknownHostException {
+        Shelly1CoapPacketFilter filter = new Shelly1CoapPacketFilter();
+        InetAddress device = address("192.168.1.10");
+
+        // same serial and payload, but outside the repeat window
+        assertThat(filter.isRepeated(device, 0x1201, STATUS_ON, 1000), is(false));
+        assertThat(filter.isRepeated(device, 0x1201, STATUS_ON, 1000 + Shelly1CoapPacketFilter.REPEAT_WINDOW_MS),
+                is(false));
+        // same serial, different payload (some firmware releases don't update the serial)
+        assertThat(filter.isRepeated(device, 0x1201, STATUS_OFF, 2100), is(false));
+    }
+
+    @Test
+    public void testDevicesAreSeparated() throws UnknownHostException {
+        Shelly1CoapPacketFilter filter = new Shelly1CoapPacketFilter();
+
+        assertThat(filter.isRepeated(address("192.168.1.10"), 0x1201, STATUS_ON, 1000), is(false));
+        assertThat(filter.isRepeated(address("192.168.1.11"), 0x1201, STATUS_ON, 1001), is(false));
+        assertThat(filter.isRepeated(address("192.168.1.10"), 0x1201, STATUS_ON, 1002), is(true));
+    }
+
+    @Test
+    public void testWakeupAndMissingSerialArePassed() throws UnknownHostException {
+        Shelly1CoapPacketFilter filter = new Shelly1CoapPacketFilter();
+        InetAddress device = address("192.168.1.10");
+
+        // battery devices reset the serial on wake-up
+        assertThat(filter.isRepeated(device, 0x1200, STATUS_ON, 1000), is(false));
+        assertThat(filter.isRepeated(device, 0x1200, STATUS_ON, 1001), is(false));
+        assertThat(filter.isRepeated(device, -1, STATUS_ON, 1002), is(false));
+        assertThat(filter.isRepeated(device, -1, STATUS_ON, 1003), is(false));
+    }
+
+    @Test
+    public void testReplay() throws UnknownHostException {
+        Shelly1CoapPacketFilter filter = new Shelly1CoapPacketFilter();
+        int devices = 250;
+        int updates = 20;
+        int passed = 0;
+        long now = 0;
+        for (int update = 1; update <= updates; update++) {
+            byte[] payload = update % 2 == 0 ? STATUS_ON : STATUS_OFF;
+            for (int i = 0; i < devices; i++) {
+                InetAddress device = address("192.168.1." + i);
+                // multicast and unicast copy of the same update
+                passed += filter.isRepeated(device, update, payload, now) ? 0 : 1;
+                passed += filter.isRepeated(device, update, payload, now + 2) ? 0 : 1;
+            }
+            now += 15000;
+        }
+        assertThat(passed, is(devices * updates));
+    }
+}
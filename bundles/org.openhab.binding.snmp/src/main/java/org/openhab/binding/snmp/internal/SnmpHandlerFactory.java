@@ -26,6 +26,7 @@ import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
@@ -40,12 +41,18 @@ public class SnmpHandlerFactory extends BaseThingHandlerFactory {
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(THING_TYPE_TARGET, THING_TYPE_TARGET3);
 
     private final SnmpService snmpService;
+    private final SnmpRefreshScheduler refreshScheduler = new SnmpRefreshScheduler();
 
     @Activate
     public SnmpHandlerFactory(@Reference SnmpService snmpService) {
         this.snmpService = snmpService;
     }
 
+    @Deactivate
+    public void deactivate() {
+        refreshScheduler.dispose();
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -55,7 +62,7 @@ public class SnmpHandlerFactory extends BaseThingHandlerFactory {
     protected @Nullable ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (THING_TYPE_TARGET.equals(thingTypeUID) || THING_TYPE_TARGET3.equals(thingTypeUID)) {
-            return new SnmpTargetHandler(thing, snmpService);
+            return new SnmpTargetHandler(thing, snmpService, refreshScheduler);
         }
         return null;
     }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SnmpRefreshScheduler} runs the refresh of all targets with the same refresh interval from a single
+ * scheduled job, so that the requests to all targets are sent together instead of each target waking up on its own.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpRefreshScheduler {
+    private static final String THING_HANDLER_THREADPOOL_NAME = "thingHandler";
+
+    private final Logger logger = LoggerFactory.getLogger(SnmpRefreshScheduler.class);
+    private final ScheduledExecutorService scheduler;
+
+    private record Group(ScheduledFuture<?> job, Set<Runnable> tasks) {
+    }
+
+    /* All access must be guarded by "this" */
+    private final Map<Integer, Group> groups = new HashMap<>();
+
+    public SnmpRefreshScheduler() {
+        this(ThreadPoolManager.getScheduledPool(THING_HANDLER_THREADPOOL_NAME));
+    }
+
+    public SnmpRefreshScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Add a refresh task. The task is run immediately and then together with all other tasks with the same interval.
+     *
+     * @param interval the refresh interval in s
+     * @param task the task
+     */
+    public synchronized void register(int interval, Runnable task) {
+        Group group = groups.get(interval);
+        if (group == null) {
+            Set<Runnable> groupTasks = new CopyOnWriteArraySet<>();
+            ScheduledFuture<?> job = scheduler.scheduleWithFixedDelay(() -> run(groupTasks), interval, interval,
+                    TimeUnit.SECONDS);
+            group = new Group(job, groupTasks);
+            groups.put(interval, group);
+        }
+        Set<Runnable> tasks = group.tasks();
+        tasks.add(task);
+        scheduler.execute(() -> {
+            if (tasks.contains(task)) {
+                runTask(task);
+            }
+        });
+    }
+
+    /**
+     * Remove a refresh task
+     *
+     * @param task the task
+     */
+    public synchronized void unregister(Runnable task) {
+        groups.values().removeIf(group -> {
+            if (group.tasks().remove(task) && group.tasks().isEmpty()) {
+                group.job().cancel(false);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public synchronized void dispose() {
+        groups.values().forEach(group -> group.job().cancel(true));
+        groups.clear();
+    }
+
+    private void run(Set<Runnable> tasks) {
+        tasks.forEach(this::runTask);
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("Refresh failed: {}", e.getMessage());
+        }
+    }
+}
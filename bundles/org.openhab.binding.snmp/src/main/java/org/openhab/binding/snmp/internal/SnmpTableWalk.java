@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.snmp4j.PDU;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * The {@link SnmpTableWalk} holds the state of an asynchronous walk of one or more table columns. The columns are
+ * walked in parallel, with GETBULK requests for SNMP v2c/v3 and GETNEXT requests for SNMP v1. If a request can't
+ * contain all columns, the columns are requested in turn.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpTableWalk {
+    // stop walking if an agent returns more rows, e.g. because of a broken lexicographic order
+    static final int MAX_ROWS = 1000;
+
+    private final List<OID> columns;
+    private final List<OID> positions;
+    private final List<Integer> activeColumns = new ArrayList<>();
+    // the columns of the last request, in the order of the request
+    private final List<Integer> requestedColumns = new ArrayList<>();
+    // the first column of the next request, if not all active columns can be requested at once
+    private int nextColumn;
+    private final boolean useBulk;
+    private final Map<OID, Variable> results = new LinkedHashMap<>();
+
+    /**
+     * Create a new walk
+     *
+     * @param columns the OIDs of the table columns
+     * @param useBulk <code>true</code> if GETBULK requests can be used (SNMP v2c and v3)
+     */
+    public SnmpTableWalk(List<OID> columns, boolean useBulk) {
+        this.columns = List.copyOf(columns);
+        this.positions = new ArrayList<>(columns);
+        this.useBulk = useBulk;
+        for (int i = 0; i < columns.size(); i++) {
+            activeColumns.add(i);
+        }
+    }
+
+    public synchronized boolean isFinished() {
+        return activeColumns.isEmpty();
+    }
+
+    /**
+     * Fill the next request of this walk
+     *
+     * @param pdu an empty PDU of the correct version
+     * @param maxVariables the maximum number of variables the response may contain
+     * @return the PDU
+     */
+    public synchronized PDU prepareRequest(PDU pdu, int maxVariables) {
+        requestedColumns.clear();
+        // continue with the column following the last request
+        activeColumns.stream().filter(column -> column >= nextColumn).forEach(requestedColumns::add);
+        activeColumns.stream().filter(column -> column < nextColumn).forEach(requestedColumns::add);
+        if (requestedColumns.size() > maxVariables) {
+            requestedColumns.subList(Math.max(1, maxVariables), requestedColumns.size()).clear();
+        }
+        nextColumn = requestedColumns.isEmpty() ? 0 : requestedColumns.getLast() + 1;
+
+        requestedColumns.forEach(column -> pdu.add(new VariableBinding(positions.get(column))));
+        if (useBulk) {
+            pdu.setType(PDU.GETBULK);
+            pdu.setNonRepeaters(0);
+            pdu.setMaxRepetitions(Math.max(1, maxVariables / Math.max(1, requestedColumns.size())));
+        } else {
+            pdu.setType(PDU.GETNEXT);
+        }
+        return pdu;
+    }
+
+    /**
+     * Process the response to a request of this walk
+     *
+     * @param response the response PDU (without error status)
+     * @return <code>true</code> if the walk is finished
+     */
+    public synchronized boolean processResponse(PDU response) {
+        List<? extends VariableBinding> variables = response.getVariableBindings();
+        int requested = requestedColumns.size();
+        if (variables.isEmpty() || requested == 0) {
+            activeColumns.clear();
+            return true;
+        }
+
+        List<Integer> finishedColumns = new ArrayList<>();
+        for (int i = 0; i < variables.size(); i++) {
+            // GETBULK responses contain the repetitions of all requested columns in turn
+            int column = requestedColumns.get(i % requested);
+            if (finishedColumns.contains(column)) {
+                continue;
+            }
+            VariableBinding variable = variables.get(i);
+            OID oid = variable.getOid();
+            if (variable.isException() || !oid.startsWith(columns.get(column))
+                    || oid.compareTo(positions.get(column)) <= 0 || results.size() >= MAX_ROWS) {
+                finishedColumns.add(column);
+                continue;
+            }
+            results.put(oid, variable.getVariable());
+            positions.set(column, oid);
+        }
+        activeColumns.removeAll(finishedColumns);
+        return activeColumns.isEmpty();
+    }
+
+    /**
+     * Stop walking a column, e.g. because the agent reported an error for it
+     *
+     * @param requestIndex the (zero-based) index of the variable in the last request
+     */
+    public synchronized void finishColumn(int requestIndex) {
+        if (requestIndex >= 0 && requestIndex < requestedColumns.size()) {
+            activeColumns.remove(requestedColumns.get(requestIndex));
+        }
+    }
+
+    /**
+     * Returns all values found so far, in the order they were received
+     */
+    public synchronized Map<OID, Variable> getResults() {
+        return new LinkedHashMap<>(results);
+    }
+
+    public List<OID> getColumns() {
+        return columns;
+    }
+}
@@ -17,10 +17,12 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -36,6 +38,7 @@ import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.binding.snmp.internal.types.SnmpProtocolVersion;
 import org.openhab.binding.snmp.internal.types.SnmpSecurityModel;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -46,6 +49,8 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.thing.util.ThingHandlerHelper;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -68,12 +73,14 @@ import org.snmp4j.event.ResponseListener;
 import org.snmp4j.mp.SnmpConstants;
 import org.snmp4j.security.UsmUser;
 import org.snmp4j.smi.Address;
+import org.snmp4j.smi.Counter32;
 import org.snmp4j.smi.Counter64;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.IpAddress;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.Opaque;
+import org.snmp4j.smi.SMIConstants;
 import org.snmp4j.smi.UdpAddress;
 import org.snmp4j.smi.UnsignedInteger32;
 import org.snmp4j.smi.Variable;
@@ -89,13 +96,25 @@ import org.snmp4j.smi.VariableBinding;
 public class SnmpTargetHandler extends BaseThingHandler implements ResponseListener, CommandResponder {
     private static final Pattern HEX_STRING_VALIDITY = Pattern.compile("([A-Fa-f0-9]{2}[ :-]?)+");
     private static final Pattern HEX_STRING_EXTRACTOR = Pattern.compile("[^A-Fa-f0-9]");
+    // upper limit for the number of variables in a single request, reduced if the agent reports "tooBig"
+    private static final int MAX_VARIABLES_PER_REQUEST = 64;
 
     private final Logger logger = LoggerFactory.getLogger(SnmpTargetHandler.class);
 
     private @NonNullByDefault({}) SnmpTargetConfiguration config;
     private final SnmpService snmpService;
-    private @Nullable ScheduledFuture<?> refresh;
+    private final SnmpRefreshScheduler refreshScheduler;
+    private final Runnable refreshTask = this::refresh;
     private int timeoutCounter = 0;
+    private volatile int maxVariablesPerRequest = MAX_VARIABLES_PER_REQUEST;
+
+    private List<OID> tableColumns = List.of();
+    private volatile @Nullable SnmpTableWalk tableWalk;
+
+    private record RateSample(long value, long time) {
+    }
+
+    private final Map<ChannelUID, RateSample> rateSamples = new ConcurrentHashMap<>();
 
     private @NonNullByDefault({}) AbstractTarget<UdpAddress> target;
     private @NonNullByDefault({}) String targetAddressString;
@@ -109,8 +128,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private @Nullable OctetString engineId;
 
     public SnmpTargetHandler(Thing thing, SnmpService snmpService) {
+        this(thing, snmpService, new SnmpRefreshScheduler());
+    }
+
+    public SnmpTargetHandler(Thing thing, SnmpService snmpService, SnmpRefreshScheduler refreshScheduler) {
         super(thing);
         this.snmpService = snmpService;
+        this.refreshScheduler = refreshScheduler;
     }
 
     @Override
@@ -181,6 +205,17 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             config.protocol = SnmpProtocolVersion.v3;
         }
 
+        try {
+            tableColumns = config.tableColumns.stream().map(String::trim).filter(oid -> !oid.isEmpty()).map(OID::new)
+                    .filter(OID::isValid).toList();
+        } catch (RuntimeException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "Invalid table column OID");
+            return;
+        }
+        tableWalk = null;
+        maxVariablesPerRequest = MAX_VARIABLES_PER_REQUEST;
+        rateSamples.clear();
+
         try {
             if (config.protocol.toInteger() == SnmpConstants.version1
                     || config.protocol.toInteger() == SnmpConstants.version2c) {
@@ -242,15 +277,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
 
         updateStatus(ThingStatus.UNKNOWN);
-        refresh = scheduler.scheduleWithFixedDelay(this::refresh, 0, config.refresh, TimeUnit.SECONDS);
+        refreshScheduler.register(config.refresh, refreshTask);
     }
 
     @Override
     public void dispose() {
-        final ScheduledFuture<?> r = refresh;
-        if (r != null && !r.isCancelled()) {
-            r.cancel(true);
-        }
+        refreshScheduler.unregister(refreshTask);
+        tableWalk = null;
         snmpService.removeCommandResponder(this);
 
         UsmUser user = usmUser;
@@ -278,8 +311,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             ((Snmp) event.getSource()).cancel(event.getRequest(), this);
         }
 
+        SnmpTableWalk walk = event.getUserHandle() instanceof SnmpTableWalk w ? w : null;
         PDU response = event.getResponse();
         if (response == null) {
+            if (walk != null) {
+                tableWalk = null;
+            }
             Exception e = event.getError();
             if (e == null) { // no response, no error -> request timed out
                 timeoutCounter++;
@@ -298,6 +335,48 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        if (walk != null && walk != tableWalk) {
+            // response to a walk that was started before the handler was re-initialized
+            return;
+        }
+
+        PDU request = event.getRequest();
+        int requestedVariables = request == null ? 0
+                : request.getType() == PDU.GETBULK ? request.size() * request.getMaxRepetitions() : request.size();
+        if (response.getErrorStatus() == PDU.tooBig && requestedVariables > 1) {
+            // the agent can't send that many variables in a single response, retry with smaller requests
+            int max = Math.max(1, Math.min(maxVariablesPerRequest, requestedVariables) / 2);
+            maxVariablesPerRequest = max;
+            logger.debug("{} reported response too big, reducing request size to {} variables", thing.getUID(), max);
+            if (walk != null) {
+                sendTableWalkRequest(walk);
+            } else if (request != null && request.getType() == PDU.GET) {
+                sendGetRequests(request.getVariableBindings().stream().map(VariableBinding::getOid).toList());
+            }
+            return;
+        }
+
+        if (walk != null) {
+            boolean finished;
+            if (response.getErrorStatus() == PDU.noSuchName && response.getErrorIndex() > 0) {
+                // SNMP v1 agents report the end of the MIB as error
+                walk.finishColumn(response.getErrorIndex() - 1);
+                finished = walk.isFinished();
+            } else if (response.getErrorStatus() != PDU.noError) {
+                logger.debug("{} table walk stopped with error: {}", thing.getUID(), response.getErrorStatusText());
+                finished = true;
+            } else {
+                finished = walk.processResponse(response);
+            }
+            if (finished) {
+                tableWalk = null;
+                processTableWalkResults(walk);
+            } else {
+                sendTableWalkRequest(walk);
+            }
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
                 updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
@@ -404,7 +483,8 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             return null;
         }
         return new SnmpInternalChannelConfiguration(channel.getUID(), new OID(oid), config.mode, datatype, onValue,
-                offValue, exceptionValue, unit, config.doNotLogException);
+                offValue, exceptionValue, unit, config.doNotLogException,
+                config.rate && CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID()));
     }
 
     private void generateChannelConfigs() {
@@ -466,6 +546,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                                 state = channelUnit == null ? new DecimalType(value.toString())
                                         : new QuantityType<>(value + channelUnit.getSymbol());
                             }
+                        } else if (channelConfig.rate) {
+                            Double rate = calculateRate(channelUID, value);
+                            if (rate == null) {
+                                return;
+                            }
+                            Unit<?> channelUnit = channelConfig.unit;
+                            state = channelUnit == null ? new DecimalType(rate) : new QuantityType<>(rate, channelUnit);
                         } else {
                             Unit<?> channelUnit = channelConfig.unit;
                             state = channelUnit == null ? new DecimalType(value.toLong())
@@ -502,6 +589,33 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
     }
 
+    /**
+     * Calculate the change per second since the last value of a channel. Counters are assumed to have wrapped at
+     * most once since the last sample.
+     *
+     * @param channelUID the channel
+     * @param value the current value
+     * @return the rate, or <code>null</code> if this is the first value
+     */
+    private @Nullable Double calculateRate(ChannelUID channelUID, Variable value) {
+        long now = System.nanoTime();
+        long rawValue = value.toLong();
+        RateSample previous = rateSamples.put(channelUID, new RateSample(rawValue, now));
+        if (previous == null || now <= previous.time()) {
+            return null;
+        }
+        double delta;
+        if (value instanceof Counter32) {
+            delta = (rawValue - previous.value()) & 0xFFFFFFFFL;
+        } else if (value instanceof Counter64) {
+            long unsignedDelta = rawValue - previous.value();
+            delta = unsignedDelta >= 0 ? unsignedDelta : unsignedDelta + 0x1p64;
+        } else {
+            delta = rawValue - previous.value();
+        }
+        return delta * 1e9 / (now - previous.time());
+    }
+
     private Variable convertDatatype(Command command, SnmpDatatype datatype) {
         switch (datatype) {
             case INT32 -> {
@@ -590,10 +704,22 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        // values of table columns are updated by the table walk
+        sendGetRequests(readChannelSet.stream().map(c -> c.oid).filter(oid -> !isTableOid(oid)).distinct().toList());
+
+        if (!tableColumns.isEmpty() && tableWalk == null) {
+            SnmpTableWalk walk = new SnmpTableWalk(tableColumns, config.protocol.toInteger() != SnmpConstants.version1);
+            tableWalk = walk;
+            sendTableWalkRequest(walk);
+        }
+    }
+
+    private void sendGetRequests(List<OID> oids) {
+        int batchSize = maxVariablesPerRequest;
+        for (int i = 0; i < oids.size(); i += batchSize) {
+            PDU pdu = getPDU();
+            pdu.setType(PDU.GET);
+            oids.subList(i, Math.min(i + batchSize, oids.size())).forEach(oid -> pdu.add(new VariableBinding(oid)));
             try {
                 snmpService.send(pdu, target, null, this);
             } catch (IOException e) {
@@ -602,6 +728,80 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
     }
 
+    private void sendTableWalkRequest(SnmpTableWalk walk) {
+        try {
+            snmpService.send(walk.prepareRequest(getPDU(), maxVariablesPerRequest), target, walk, this);
+        } catch (IOException e) {
+            tableWalk = null;
+            logger.info("Could not send PDU", e);
+        }
+    }
+
+    private boolean isTableOid(OID oid) {
+        return tableColumns.stream().anyMatch(column -> oid.size() > column.size() && oid.startsWith(column));
+    }
+
+    private void processTableWalkResults(SnmpTableWalk walk) {
+        Map<OID, Variable> results = walk.getResults();
+        logger.trace("{} found {} values in table columns {}", thing.getUID(), results.size(), walk.getColumns());
+
+        // create a channel for each cell of the table that is not linked to a channel yet
+        Set<OID> knownOids = readChannelSet.stream().map(c -> c.oid).collect(Collectors.toSet());
+        List<Channel> newChannels = new ArrayList<>();
+        results.forEach((oid, value) -> {
+            if (knownOids.contains(oid) || value.isException()) {
+                return;
+            }
+            ChannelUID channelUID = new ChannelUID(thing.getUID(), "table_" + oid.toDottedString().replace('.', '_'));
+            if (thing.getChannel(channelUID) != null) {
+                return;
+            }
+            Channel channel = createTableChannel(channelUID, oid, value);
+            if (channel != null) {
+                newChannels.add(channel);
+            }
+        });
+        if (!newChannels.isEmpty()) {
+            logger.debug("{} adding {} channels for table values", thing.getUID(), newChannels.size());
+            List<Channel> channels = new ArrayList<>(thing.getChannels());
+            channels.addAll(newChannels);
+            updateThing(editThing().withChannels(channels).build());
+            generateChannelConfigs();
+        }
+
+        results.forEach((oid, value) -> updateChannels(oid, value, readChannelSet));
+    }
+
+    private @Nullable Channel createTableChannel(ChannelUID channelUID, OID oid, Variable value) {
+        String label = oid.toDottedString();
+        return switch (value.getSyntax()) {
+            case SMIConstants.SYNTAX_INTEGER32 -> buildTableChannel(channelUID, CHANNEL_TYPE_UID_NUMBER, "Number",
+                    label, oid, SnmpDatatype.INT32);
+            case SMIConstants.SYNTAX_COUNTER32, SMIConstants.SYNTAX_GAUGE32, SMIConstants.SYNTAX_TIMETICKS ->
+                buildTableChannel(channelUID, CHANNEL_TYPE_UID_NUMBER, "Number", label, oid, SnmpDatatype.UINT32);
+            case SMIConstants.SYNTAX_COUNTER64 -> buildTableChannel(channelUID, CHANNEL_TYPE_UID_NUMBER, "Number",
+                    label, oid, SnmpDatatype.COUNTER64);
+            case SMIConstants.SYNTAX_OCTET_STRING -> buildTableChannel(channelUID, CHANNEL_TYPE_UID_STRING, "String",
+                    label, oid, SnmpDatatype.STRING);
+            case SMIConstants.SYNTAX_IPADDRESS -> buildTableChannel(channelUID, CHANNEL_TYPE_UID_STRING, "String",
+                    label, oid, SnmpDatatype.IPADDRESS);
+            default -> {
+                logger.debug("unsupported syntax of table value {} = {}, skipping", oid, value);
+                yield null;
+            }
+        };
+    }
+
+    private Channel buildTableChannel(ChannelUID channelUID, ChannelTypeUID channelTypeUID, String itemType,
+            String label, OID oid, SnmpDatatype datatype) {
+        Configuration configuration = new Configuration();
+        configuration.put("oid", oid.toDottedString());
+        configuration.put("mode", SnmpChannelMode.READ.name());
+        configuration.put("datatype", datatype.name());
+        return ChannelBuilder.create(channelUID, itemType).withType(channelTypeUID).withLabel(label)
+                .withConfiguration(configuration).build();
+    }
+
     private PDU getPDU() {
         if (config.protocol == SnmpProtocolVersion.v3 || config.protocol == SnmpProtocolVersion.V3) {
             return new ScopedPDU();
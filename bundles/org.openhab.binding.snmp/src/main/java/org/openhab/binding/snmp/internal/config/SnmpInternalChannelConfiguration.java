@@ -41,10 +41,11 @@ public class SnmpInternalChannelConfiguration {
     public final State exceptionValue;
     public final @Nullable Unit<?> unit;
     public final boolean doNotLogException;
+    public final boolean rate;
 
     public SnmpInternalChannelConfiguration(ChannelUID channelUID, OID oid, SnmpChannelMode mode, SnmpDatatype datatype,
             @Nullable Variable onValue, @Nullable Variable offValue, State exceptionValue, @Nullable Unit<?> unit,
-            boolean doNotLogException) {
+            boolean doNotLogException, boolean rate) {
         this.channelUID = channelUID;
         this.oid = oid;
         this.mode = mode;
@@ -54,5 +55,6 @@ public class SnmpInternalChannelConfiguration {
         this.exceptionValue = exceptionValue;
         this.unit = unit;
         this.doNotLogException = doNotLogException;
+        this.rate = rate;
     }
 }
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.snmp.internal.config;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.snmp.internal.types.SnmpAuthProtocol;
@@ -35,6 +37,8 @@ public class SnmpTargetConfiguration {
     public int timeout = 1500;
     public int retries = 2;
 
+    public List<String> tableColumns = List.of();
+
     // v1/v2c only
     public String community = "public";
 
@@ -183,8 +183,14 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
     protected void setup(ChannelTypeUID channelTypeUID, SnmpChannelMode channelMode, @Nullable SnmpDatatype datatype,
             @Nullable String onValue, @Nullable String offValue, @Nullable String exceptionValue,
             @Nullable String unit) {
-        Map<String, Object> channelConfig = new HashMap<>();
-        Map<String, Object> thingConfig = new HashMap<>();
+        setup(channelTypeUID, channelMode, datatype, onValue, offValue, exceptionValue, unit, Map.of(), Map.of());
+    }
+
+    protected void setup(ChannelTypeUID channelTypeUID, SnmpChannelMode channelMode, @Nullable SnmpDatatype datatype,
+            @Nullable String onValue, @Nullable String offValue, @Nullable String exceptionValue, @Nullable String unit,
+            Map<String, Object> additionalThingConfig, Map<String, Object> additionalChannelConfig) {
+        Map<String, Object> channelConfig = new HashMap<>(additionalChannelConfig);
+        Map<String, Object> thingConfig = new HashMap<>(additionalThingConfig);
         mocks = MockitoAnnotations.openMocks(this);
 
         thingConfig.put("hostname", "localhost");
@@ -12,12 +12,13 @@
  */
 package org.openhab.binding.snmp.internal;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeast;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.thing.ThingStatus;
 import org.snmp4j.PDU;
 import org.snmp4j.event.ResponseEvent;
+import org.snmp4j.smi.Counter32;
 import org.snmp4j.smi.Counter64;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.Opaque;
@@ -81,4 +83,27 @@ public class NumberChannelTest extends AbstractSnmpTargetHandlerTest {
         assertEquals(SIUnits.CELSIUS, captor.getValue().getUnit());
         verifyStatus(ThingStatus.ONLINE);
     }
+
+    @Test
+    public void testRateIsCalculatedAcrossCounterWrap() throws InterruptedException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, SnmpChannelMode.READ, SnmpDatatype.UINT32, null, null,
+                null, null, Map.of(), Map.of("rate", true));
+        PDU responsePDU = new PDU(PDU.RESPONSE,
+                List.of(new VariableBinding(new OID(TEST_OID), new Counter32(0xFFFFFFF0L))));
+        thingHandler.onResponse(new ResponseEvent<>("test", null, null, responsePDU, null, 0L));
+
+        // the first value is only the reference for the next one
+        verify(thingHandlerCallback, never()).stateUpdated(eq(CHANNEL_UID), any());
+
+        Thread.sleep(100);
+        responsePDU = new PDU(PDU.RESPONSE, List.of(new VariableBinding(new OID(TEST_OID), new Counter32(0x10))));
+        thingHandler.onResponse(new ResponseEvent<>("test", null, null, responsePDU, null, 0L));
+
+        // 32 increments (across the wrap-around) in at least 100 ms
+        final ArgumentCaptor<DecimalType> captor = ArgumentCaptor.forClass(DecimalType.class);
+        verify(thingHandlerCallback, times(1)).stateUpdated(eq(CHANNEL_UID), captor.capture());
+        double rate = captor.getValue().doubleValue();
+        assertTrue(rate > 0 && rate <= 320, "unexpected rate " + rate);
+        verifyStatus(ThingStatus.ONLINE);
+    }
 }
@@ -13,30 +13,37 @@
 package org.openhab.binding.snmp.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
 import org.snmp4j.PDU;
 import org.snmp4j.Snmp;
 import org.snmp4j.event.ResponseEvent;
 import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
 import org.snmp4j.smi.Integer32;
 import org.snmp4j.smi.OID;
 import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.UnsignedInteger32;
+import org.snmp4j.smi.Variable;
 import org.snmp4j.smi.VariableBinding;
 
 /**
@@ -166,6 +173,121 @@ public class SnmpTargetHandlerTest extends AbstractSnmpTargetHandlerTest {
         verifyStatus(ThingStatus.ONLINE);
     }
 
+    @Test
+    public void testTooBigResponseSplitsRequest() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.READ);
+        verify(snmpService, timeout(500).times(1)).send(any(), any(), eq(null), eq(thingHandler));
+
+        PDU requestPDU = new PDU(PDU.GET, List.of(new VariableBinding(new OID("1.2.3.4")),
+                new VariableBinding(new OID("1.2.3.5")), new VariableBinding(new OID("1.2.3.6")),
+                new VariableBinding(new OID("1.2.3.7"))));
+        PDU responsePDU = new PDU(PDU.RESPONSE, requestPDU.getVariableBindings());
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(new ResponseEvent<>("test", null, requestPDU, responsePDU, null, 0L));
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, times(3)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        List<PDU> retries = pduCaptor.getAllValues().subList(1, 3);
+        assertEquals(List.of(2, 2), retries.stream().map(PDU::size).toList());
+        assertEquals(new OID("1.2.3.6"), retries.get(1).get(0).getOid());
+    }
+
+    @Test
+    public void testTableWalkAddsChannels() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.READ, null, null, null, null, null,
+                Map.of("protocol", "v2c", "tableColumns", List.of("1.2.5.1", "1.2.5.2")), Map.of());
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> walkCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(any(), any(), any(SnmpTableWalk.class), eq(thingHandler));
+        // the walk is started after the GET request for the other channel
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), walkCaptor.capture(), eq(thingHandler));
+        PDU requestPDU = pduCaptor.getValue();
+        assertEquals(PDU.GETBULK, requestPDU.getType());
+        assertEquals(2, requestPDU.size());
+
+        // the second column has only one row, the response for the first column is truncated by the agent
+        PDU responsePDU = new PDU(PDU.RESPONSE, List.of(bind("1.2.5.1.1", new Counter64(5)),
+                bind("1.2.5.2.1", new Gauge32(100)), bind("1.2.5.1.2", new Counter64(7)),
+                bind("1.2.6.1.1", new Integer32(1))));
+        thingHandler.onResponse(
+                new ResponseEvent<>("test", null, requestPDU, responsePDU, walkCaptor.getValue(), 0L));
+
+        // the walk continues with the first column only
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), any(SnmpTableWalk.class), eq(thingHandler));
+        requestPDU = pduCaptor.getValue();
+        assertEquals(1, requestPDU.size());
+        assertEquals(new OID("1.2.5.1.2"), requestPDU.get(0).getOid());
+
+        responsePDU = new PDU(PDU.RESPONSE, List.of(bind("1.2.5.2.1", new Gauge32(100))));
+        thingHandler.onResponse(
+                new ResponseEvent<>("test", null, requestPDU, responsePDU, walkCaptor.getValue(), 0L));
+
+        Channel channel = thingHandler.getThing().getChannel("table_1_2_5_1_2");
+        assertNotNull(channel);
+        assertEquals(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, channel.getChannelTypeUID());
+        assertEquals(4, thingHandler.getThing().getChannels().size());
+        // the configured channel is kept
+        Channel configuredChannel = thingHandler.getThing().getChannel(CHANNEL_UID);
+        assertNotNull(configuredChannel);
+        assertEquals(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, configuredChannel.getChannelTypeUID());
+        assertEquals(TEST_OID, configuredChannel.getConfiguration().get("oid"));
+        verify(thingHandlerCallback).stateUpdated(eq(new ChannelUID(THING_UID, "table_1_2_5_1_2")),
+                eq(new DecimalType(7)));
+        verify(thingHandlerCallback).stateUpdated(eq(new ChannelUID(THING_UID, "table_1_2_5_2_1")),
+                eq(new DecimalType(100)));
+    }
+
+    @Test
+    public void testTableWalkTooBigResponseRequestsColumnsInTurn() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.READ, null, null, null, null, null,
+                Map.of("protocol", "v1", "tableColumns", List.of("1.2.5.1", "1.2.5.2")), Map.of());
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> walkCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(any(), any(), any(SnmpTableWalk.class), eq(thingHandler));
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), walkCaptor.capture(), eq(thingHandler));
+        PDU requestPDU = pduCaptor.getValue();
+        assertEquals(PDU.GETNEXT, requestPDU.getType());
+        assertEquals(2, requestPDU.size());
+
+        // the agent can't answer both columns in a single response
+        PDU responsePDU = new PDU(PDU.RESPONSE, requestPDU.getVariableBindings());
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(
+                new ResponseEvent<>("test", null, requestPDU, responsePDU, walkCaptor.getValue(), 0L));
+
+        // the columns are requested in turn
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), any(SnmpTableWalk.class), eq(thingHandler));
+        requestPDU = pduCaptor.getValue();
+        assertEquals(List.of(new OID("1.2.5.1")), oids(requestPDU));
+        responsePDU = new PDU(PDU.RESPONSE, List.of(bind("1.2.5.1.1", new Counter64(5))));
+        thingHandler.onResponse(
+                new ResponseEvent<>("test", null, requestPDU, responsePDU, walkCaptor.getValue(), 0L));
+
+        verify(snmpService, times(3)).send(pduCaptor.capture(), any(), any(SnmpTableWalk.class), eq(thingHandler));
+        requestPDU = pduCaptor.getValue();
+        assertEquals(List.of(new OID("1.2.5.2")), oids(requestPDU));
+
+        // a single variable can't be split any further, the walk ends instead of resending the request
+        responsePDU = new PDU(PDU.RESPONSE, requestPDU.getVariableBindings());
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(
+                new ResponseEvent<>("test", null, requestPDU, responsePDU, walkCaptor.getValue(), 0L));
+
+        verify(snmpService, times(3)).send(any(), any(), any(SnmpTableWalk.class), eq(thingHandler));
+        verify(thingHandlerCallback).stateUpdated(eq(new ChannelUID(THING_UID, "table_1_2_5_1_1")),
+                eq(new DecimalType(5)));
+    }
+
+    private static List<OID> oids(PDU pdu) {
+        return pdu.getVariableBindings().stream().map(VariableBinding::getOid).toList();
+    }
+
+    private static VariableBinding bind(String oid, Variable variable) {
+        return new VariableBinding(new OID(oid), variable);
+    }
+
     static class SnmpMock extends Snmp {
         public int cancelCallCounter = 0;
 
@@ -15,7 +15,9 @@ package org.openhab.binding.systeminfo.internal.handler;
 import static org.openhab.binding.systeminfo.internal.SystemInfoBindingConstants.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +29,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.systeminfo.internal.SystemInfoThingTypeProvider;
 import org.openhab.binding.systeminfo.internal.model.DeviceNotFoundException;
+import org.openhab.binding.systeminfo.internal.model.MetricGroup;
 import org.openhab.binding.systeminfo.internal.model.SystemInfoInterface;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheMap;
@@ -60,6 +63,7 @@ import org.slf4j.LoggerFactory;
  * @author Wouter Born - Add null annotations
  * @author Mark Herwege - Add dynamic creation of extra channels
  * @author Mark Herwege - Processor frequency channels
+ * @author Contributors to the openHAB project - Sample metric groups once per refresh cycle
  */
 @NonNullByDefault
 public class SystemInfoHandler extends BaseThingHandler {
@@ -376,11 +380,25 @@ public class SystemInfoHandler extends BaseThingHandler {
         if (!ThingStatus.ONLINE.equals(thing.getStatus())) {
             return;
         }
-        for (ChannelUID channeUID : channels) {
-            if (isLinked(channeUID)) {
-                publishDataForChannel(channeUID);
+        List<ChannelUID> linkedChannels = channels.stream().filter(this::isLinked).toList();
+
+        // read every metric group needed by the channels only once
+        Set<MetricGroup> groups = EnumSet.noneOf(MetricGroup.class);
+        for (ChannelUID channelUID : linkedChannels) {
+            MetricGroup group = getMetricGroup(getChannelIDWithoutIndex(channelUID.getId()));
+            if (group != null) {
+                groups.add(group);
             }
         }
+        if (!groups.isEmpty()) {
+            Duration samplingTime = systeminfo.sample(groups);
+            logger.debug("Sampled {} for {} channels of thing {} in {} ms", groups, linkedChannels.size(),
+                    thing.getUID(), samplingTime.toMillis());
+        }
+
+        for (ChannelUID channeUID : linkedChannels) {
+            publishDataForChannel(channeUID);
+        }
     }
 
     private void publishDataForChannel(ChannelUID channelUID) {
@@ -419,11 +437,7 @@ public class SystemInfoHandler extends BaseThingHandler {
 
         // The channelGroup or channel may contain deviceIndex. It must be deleted from the channelID, because otherwise
         // the switch will not find the correct method below.
-        // All digits are deleted from the ID, except for CpuLoad channels.
-        if (!(CHANNEL_CPU_LOAD_1.equals(channelID) || CHANNEL_CPU_LOAD_5.equals(channelID)
-                || CHANNEL_CPU_LOAD_15.equals(channelID))) {
-            channelID = channelID.replaceAll("\\d+", "");
-        }
+        channelID = getChannelIDWithoutIndex(channelID);
 
         try {
             switch (channelID) {
@@ -617,6 +631,69 @@ public class SystemInfoHandler extends BaseThingHandler {
         return state != null ? state : UnDefType.UNDEF;
     }
 
+    /**
+     * Deletes all digits from the channel ID, except for CpuLoad channels.
+     *
+     * @param channelID the ID of the channel, which may contain a device index
+     * @return the channel ID without device index
+     */
+    private String getChannelIDWithoutIndex(String channelID) {
+        if (CHANNEL_CPU_LOAD_1.equals(channelID) || CHANNEL_CPU_LOAD_5.equals(channelID)
+                || CHANNEL_CPU_LOAD_15.equals(channelID)) {
+            return channelID;
+        }
+        return channelID.replaceAll("\\d+", "");
+    }
+
+    /**
+     * Returns the metric group the value of a channel is read with, see {@link SystemInfoInterface#sample(Set)}.
+     *
+     * @param channelID the ID of the channel without device index
+     * @return the metric group or null, if the channel value is not sampled
+     */
+    private @Nullable MetricGroup getMetricGroup(String channelID) {
+        switch (channelID) {
+            case CHANNEL_MEMORY_AVAILABLE:
+            case CHANNEL_MEMORY_USED:
+            case CHANNEL_MEMORY_TOTAL:
+            case CHANNEL_MEMORY_AVAILABLE_PERCENT:
+            case CHANNEL_MEMORY_USED_PERCENT:
+            case CHANNEL_SWAP_AVAILABLE:
+            case CHANNEL_SWAP_USED:
+            case CHANNEL_SWAP_TOTAL:
+            case CHANNEL_SWAP_AVAILABLE_PERCENT:
+            case CHANNEL_SWAP_USED_PERCENT:
+                return MetricGroup.MEMORY;
+            case CHANNEL_CPU_FREQ:
+                return MetricGroup.CPU_FREQUENCY;
+            case CHANNEL_CPU_LOAD_1:
+            case CHANNEL_CPU_LOAD_5:
+            case CHANNEL_CPU_LOAD_15:
+                return MetricGroup.CPU_LOAD_AVERAGE;
+            case CHANNEL_SENSORS_CPU_TEMPERATURE:
+            case CHANNEL_SENOSRS_CPU_VOLTAGE:
+            case CHANNEL_SENSORS_FAN_SPEED:
+                return MetricGroup.SENSORS;
+            case CHANNEL_STORAGE_AVAILABLE:
+            case CHANNEL_STORAGE_USED:
+            case CHANNEL_STORAGE_TOTAL:
+            case CHANNEL_STORAGE_AVAILABLE_PERCENT:
+            case CHANNEL_STORAGE_USED_PERCENT:
+                return MetricGroup.STORAGE;
+            case CHANNEL_NETWORK_IP:
+            case CHANNEL_NETWORK_DATA_SENT:
+            case CHANNEL_NETWORK_DATA_RECEIVED:
+            case CHANNEL_NETWORK_PACKETS_RECEIVED:
+            case CHANNEL_NETWORK_PACKETS_SENT:
+                return MetricGroup.NETWORK;
+            case CHANNEL_BATTERY_REMAINING_CAPACITY:
+            case CHANNEL_BATTERY_REMAINING_TIME:
+                return MetricGroup.BATTERY;
+            default:
+                return null;
+        }
+    }
+
     private @Nullable PercentType getSystemCpuLoad() {
         return systeminfo.getSystemCpuLoad();
     }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MetricGroup} defines the groups of dynamic system information which are read from the system together
+ * and can be sampled once for all channels of a refresh cycle, see {@link SystemInfoInterface#sample(java.util.Set)}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public enum MetricGroup {
+    /** Physical memory and swap */
+    MEMORY,
+    /** Current frequencies of all logical processors */
+    CPU_FREQUENCY,
+    /** CPU load averages of 1, 5 and 15 minutes */
+    CPU_LOAD_AVERAGE,
+    /** CPU temperature, CPU voltage and fan speeds */
+    SENSORS,
+    /** Usage of all storages */
+    STORAGE,
+    /** Addresses and traffic counters of all network interfaces */
+    NETWORK,
+    /** State of all batteries */
+    BATTERY
+}
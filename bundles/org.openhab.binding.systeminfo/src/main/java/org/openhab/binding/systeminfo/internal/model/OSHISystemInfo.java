@@ -14,9 +14,17 @@ package org.openhab.binding.systeminfo.internal.model;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.measure.quantity.ElectricPotential;
 import javax.measure.quantity.Frequency;
@@ -25,6 +33,7 @@ import javax.measure.quantity.Time;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.dimension.DataAmount;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.PercentType;
@@ -46,6 +55,7 @@ import oshi.hardware.HardwareAbstractionLayer;
 import oshi.hardware.NetworkIF;
 import oshi.hardware.PowerSource;
 import oshi.hardware.Sensors;
+import oshi.hardware.VirtualMemory;
 import oshi.software.os.OSFileStore;
 import oshi.software.os.OSProcess;
 import oshi.software.os.OperatingSystem;
@@ -64,6 +74,7 @@ import oshi.util.EdidUtil;
  * @author Mark Herwege - Add dynamic creation of extra channels
  * @author Mark Herwege - Use units of measure
  * @author Mark Herwege - Processor frequency channels
+ * @author Contributors to the openHAB project - Sample metric groups once per refresh cycle
  *
  * @see <a href="https://github.com/oshi/oshi">OSHI GitHub repository</a>
  */
@@ -71,7 +82,22 @@ import oshi.util.EdidUtil;
 @Component(service = SystemInfoInterface.class)
 public class OSHISystemInfo implements SystemInfoInterface {
 
+    private static final String THREADPOOL_NAME = "binding.systeminfo";
+    // Sampled values are used for all channels of a refresh cycle. This must be shorter than the minimum refresh
+    // interval of 1 s.
+    private static final long SAMPLE_VALIDITY_NS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private record MemorySample(long total, long available, long swapTotal, long swapUsed) {
+    }
+
+    private record SensorsSample(double cpuTemperature, double cpuVoltage, int[] fanSpeeds) {
+    }
+
+    private record ProcessSample(OSProcess process, long time) {
+    }
+
     private final Logger logger = LoggerFactory.getLogger(OSHISystemInfo.class);
+    private final ExecutorService executor = ThreadPoolManager.getPool(THREADPOOL_NAME);
 
     private @NonNullByDefault({}) HardwareAbstractionLayer hal;
 
@@ -95,6 +121,14 @@ public class OSHISystemInfo implements SystemInfoInterface {
     // Map containing previous process state to calculate load by process
     private Map<Integer, OSProcess> processTicks = new HashMap<>();
 
+    // Time of the last sample of each metric group, see isSampled(MetricGroup)
+    private final Map<MetricGroup, Long> sampleTimes = new ConcurrentHashMap<>();
+    private volatile @Nullable MemorySample memorySample;
+    private volatile @Nullable SensorsSample sensorsSample;
+    private volatile long @Nullable [] cpuFrequencySample;
+    private volatile double @Nullable [] loadAverageSample;
+    private final Map<Integer, ProcessSample> processSamples = new ConcurrentHashMap<>();
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
     /**
@@ -141,13 +175,135 @@ public class OSHISystemInfo implements SystemInfoInterface {
     }
 
     private OSProcess getProcess(int pid) throws DeviceNotFoundException {
+        // all process channels of a refresh cycle use the same sample of the process
+        long now = System.nanoTime();
+        processSamples.values().removeIf(sample -> now - sample.time() >= SAMPLE_VALIDITY_NS);
+        ProcessSample sample = processSamples.get(pid);
+        if (sample != null) {
+            return sample.process();
+        }
         OSProcess process = operatingSystem.getProcess(pid);
         if (process == null) {
             throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
         }
+        processSamples.put(pid, new ProcessSample(process, now));
         return process;
     }
 
+    @Override
+    public Duration sample(Set<MetricGroup> groups) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> samples = new ArrayList<>();
+        for (MetricGroup group : groups) {
+            if (!isSampled(group)) {
+                samples.add(CompletableFuture.runAsync(() -> sampleGroup(group), executor));
+            }
+        }
+        try {
+            CompletableFuture.allOf(samples.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            logger.debug("Sampling system information failed: {}", e.getMessage());
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void sampleGroup(MetricGroup group) {
+        long start = System.nanoTime();
+        switch (group) {
+            case MEMORY:
+                sampleMemory();
+                break;
+            case CPU_FREQUENCY:
+                sampleCpuFrequency();
+                break;
+            case CPU_LOAD_AVERAGE:
+                sampleLoadAverage();
+                break;
+            case SENSORS:
+                sampleSensors();
+                break;
+            case STORAGE:
+                fileStores.forEach(OSFileStore::updateAttributes);
+                sampleTimes.put(group, System.nanoTime());
+                break;
+            case NETWORK:
+                networks.forEach(NetworkIF::updateAttributes);
+                sampleTimes.put(group, System.nanoTime());
+                break;
+            case BATTERY:
+                powerSources.forEach(PowerSource::updateAttributes);
+                sampleTimes.put(group, System.nanoTime());
+                break;
+        }
+        logger.trace("Sampled {} in {} ms", group, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private boolean isSampled(MetricGroup group) {
+        Long sampleTime = sampleTimes.get(group);
+        return sampleTime != null && System.nanoTime() - sampleTime < SAMPLE_VALIDITY_NS;
+    }
+
+    private MemorySample getMemorySample() {
+        MemorySample sample = memorySample;
+        return sample != null && isSampled(MetricGroup.MEMORY) ? sample : sampleMemory();
+    }
+
+    private MemorySample sampleMemory() {
+        VirtualMemory virtualMemory = memory.getVirtualMemory();
+        MemorySample sample = new MemorySample(memory.getTotal(), memory.getAvailable(), virtualMemory.getSwapTotal(),
+                virtualMemory.getSwapUsed());
+        memorySample = sample;
+        sampleTimes.put(MetricGroup.MEMORY, System.nanoTime());
+        return sample;
+    }
+
+    private long[] getCpuFrequencySample() {
+        long[] sample = cpuFrequencySample;
+        return sample != null && isSampled(MetricGroup.CPU_FREQUENCY) ? sample : sampleCpuFrequency();
+    }
+
+    private long[] sampleCpuFrequency() {
+        long[] sample = cpu.getCurrentFreq();
+        cpuFrequencySample = sample;
+        sampleTimes.put(MetricGroup.CPU_FREQUENCY, System.nanoTime());
+        return sample;
+    }
+
+    private double[] getLoadAverageSample() {
+        double[] sample = loadAverageSample;
+        return sample != null && isSampled(MetricGroup.CPU_LOAD_AVERAGE) ? sample : sampleLoadAverage();
+    }
+
+    private double[] sampleLoadAverage() {
+        // the averages of 1, 5 and 15 minutes
+        double[] sample = cpu.getSystemLoadAverage(3);
+        loadAverageSample = sample;
+        sampleTimes.put(MetricGroup.CPU_LOAD_AVERAGE, System.nanoTime());
+        return sample;
+    }
+
+    private SensorsSample getSensorsSample() {
+        SensorsSample sample = sensorsSample;
+        return sample != null && isSampled(MetricGroup.SENSORS) ? sample : sampleSensors();
+    }
+
+    private SensorsSample sampleSensors() {
+        SensorsSample sample = new SensorsSample(sensors.getCpuTemperature(), sensors.getCpuVoltage(),
+                sensors.getFanSpeeds());
+        sensorsSample = sample;
+        sampleTimes.put(MetricGroup.SENSORS, System.nanoTime());
+        return sample;
+    }
+
+    /**
+     * Update the attributes of a device, unless the whole group was sampled for the current refresh cycle.
+     */
+    private void updateAttributes(MetricGroup group, Runnable update) {
+        if (!isSampled(group)) {
+            update.run();
+        }
+    }
+
     @Override
     public StringType getOsFamily() {
         String osFamily = operatingSystem.getFamily();
@@ -207,28 +363,29 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable QuantityType<Frequency> getCpuFreq(int logicalProcessorIndex) {
-        long freq = cpu.getCurrentFreq()[logicalProcessorIndex];
+        long freq = getCpuFrequencySample()[logicalProcessorIndex];
         return freq >= 0 ? new QuantityType<>(freq, Units.HERTZ) : null;
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemorySample().total();
         totalMemory = getSizeInMB(totalMemory);
         return new QuantityType<>(totalMemory, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemorySample().available();
         availableMemory = getSizeInMB(availableMemory);
         return new QuantityType<>(availableMemory, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        MemorySample sample = getMemorySample();
+        long totalMemory = sample.total();
+        long availableMemory = sample.available();
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new QuantityType<>(usedMemory, Units.MEBIBYTE);
@@ -237,7 +394,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageTotal(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        updateAttributes(MetricGroup.STORAGE, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new QuantityType<>(totalSpace, Units.MEBIBYTE);
@@ -246,7 +403,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageAvailable(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        updateAttributes(MetricGroup.STORAGE, fileStore::updateAttributes);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new QuantityType<>(freeSpace, Units.MEBIBYTE);
@@ -255,7 +412,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getStorageUsed(int index) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        updateAttributes(MetricGroup.STORAGE, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -266,7 +423,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public @Nullable PercentType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        updateAttributes(MetricGroup.STORAGE, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -281,7 +438,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public @Nullable PercentType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
         OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        updateAttributes(MetricGroup.STORAGE, fileStore::updateAttributes);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -318,7 +475,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
         NetworkIF netInterface = getDevice(networks, index);
-        netInterface.updateAttributes();
+        updateAttributes(MetricGroup.NETWORK, netInterface::updateAttributes);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -356,21 +513,21 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable QuantityType<Temperature> getSensorsCpuTemperature() {
-        BigDecimal cpuTemp = new BigDecimal(sensors.getCpuTemperature());
+        BigDecimal cpuTemp = new BigDecimal(getSensorsSample().cpuTemperature());
         cpuTemp = cpuTemp.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return cpuTemp.signum() == 1 ? new QuantityType<>(cpuTemp, SIUnits.CELSIUS) : null;
     }
 
     @Override
     public @Nullable QuantityType<ElectricPotential> getSensorsCpuVoltage() {
-        BigDecimal cpuVoltage = new BigDecimal(sensors.getCpuVoltage());
+        BigDecimal cpuVoltage = new BigDecimal(getSensorsSample().cpuVoltage());
         cpuVoltage = cpuVoltage.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return cpuVoltage.signum() == 1 ? new QuantityType<>(cpuVoltage, Units.VOLT) : null;
     }
 
     @Override
     public @Nullable DecimalType getSensorsFanSpeed(int index) throws DeviceNotFoundException {
-        int[] fanSpeeds = sensors.getFanSpeeds();
+        int[] fanSpeeds = getSensorsSample().fanSpeeds();
         int speed = 0; // 0 means unable to measure speed
         if (index < fanSpeeds.length) {
             speed = fanSpeeds[index];
@@ -383,7 +540,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public @Nullable QuantityType<Time> getBatteryRemainingTime(int index) throws DeviceNotFoundException {
         PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        updateAttributes(MetricGroup.BATTERY, powerSource::updateAttributes);
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -393,7 +550,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public PercentType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
         PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        updateAttributes(MetricGroup.BATTERY, powerSource::updateAttributes);
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new PercentType(remainingCapacityPercents);
@@ -408,8 +565,9 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemorySample sample = getMemorySample();
+        long availableMemory = sample.available();
+        long totalMemory = sample.total();
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -421,8 +579,9 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemorySample sample = getMemorySample();
+        long availableMemory = sample.available();
+        long totalMemory = sample.total();
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -456,15 +615,16 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getSwapTotal() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
+        long swapTotal = getMemorySample().swapTotal();
         swapTotal = getSizeInMB(swapTotal);
         return new QuantityType<>(swapTotal, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getSwapAvailable() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        MemorySample sample = getMemorySample();
+        long swapTotal = sample.swapTotal();
+        long swapUsed = sample.swapUsed();
         long swapAvailable = swapTotal - swapUsed;
         swapAvailable = getSizeInMB(swapAvailable);
         return new QuantityType<>(swapAvailable, Units.MEBIBYTE);
@@ -472,15 +632,16 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public QuantityType<DataAmount> getSwapUsed() {
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapUsed = getMemorySample().swapUsed();
         swapUsed = getSizeInMB(swapUsed);
         return new QuantityType<>(swapUsed, Units.MEBIBYTE);
     }
 
     @Override
     public @Nullable PercentType getSwapAvailablePercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        MemorySample sample = getMemorySample();
+        long swapTotal = sample.swapTotal();
+        long swapUsed = sample.swapUsed();
         long swapAvailable = swapTotal - swapUsed;
         if (swapTotal > 0) {
             double swapAvailablePercentDecimal = (double) swapAvailable / (double) swapTotal;
@@ -493,8 +654,9 @@ public class OSHISystemInfo implements SystemInfoInterface {
 
     @Override
     public @Nullable PercentType getSwapUsedPercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        MemorySample sample = getMemorySample();
+        long swapTotal = sample.swapTotal();
+        long swapUsed = sample.swapUsed();
         if (swapTotal > 0) {
             double swapUsedPercentDecimal = (double) swapUsed / (double) swapTotal;
             BigDecimal swapUsedPercent = getPercentsValue(swapUsedPercentDecimal);
@@ -577,7 +739,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double processorLoads[] = getLoadAverageSample();
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return result;
@@ -605,7 +767,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateAttributes(MetricGroup.NETWORK, network::updateAttributes);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
@@ -613,7 +775,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateAttributes(MetricGroup.NETWORK, network::updateAttributes);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
@@ -621,7 +783,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateAttributes(MetricGroup.NETWORK, network::updateAttributes);
         long bytesSent = network.getBytesSent();
         return new QuantityType<>(getSizeInMB(bytesSent), Units.MEBIBYTE);
     }
@@ -629,7 +791,7 @@ public class OSHISystemInfo implements SystemInfoInterface {
     @Override
     public QuantityType<DataAmount> getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
         NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        updateAttributes(MetricGroup.NETWORK, network::updateAttributes);
         long bytesRecv = network.getBytesRecv();
         return new QuantityType<>(getSizeInMB(bytesRecv), Units.MEBIBYTE);
     }
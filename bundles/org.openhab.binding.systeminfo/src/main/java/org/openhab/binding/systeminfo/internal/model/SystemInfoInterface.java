@@ -12,6 +12,9 @@
  */
 package org.openhab.binding.systeminfo.internal.model;
 
+import java.time.Duration;
+import java.util.Set;
+
 import javax.measure.quantity.ElectricPotential;
 import javax.measure.quantity.Frequency;
 import javax.measure.quantity.Temperature;
@@ -42,6 +45,16 @@ public interface SystemInfoInterface {
      */
     void initializeSystemInfo();
 
+    /**
+     * Read the given metric groups from the system at once, in parallel where possible. Until the sample expires,
+     * the methods returning values of these groups use the sampled values instead of reading them again. Groups which
+     * were sampled just before, e.g. for another thing, are not sampled again.
+     *
+     * @param groups the metric groups needed for the current refresh cycle
+     * @return the time spent sampling
+     */
+    Duration sample(Set<MetricGroup> groups);
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows, Unix,.../
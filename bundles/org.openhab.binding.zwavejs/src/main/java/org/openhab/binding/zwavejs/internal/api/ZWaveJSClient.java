@@ -13,11 +13,13 @@
 package org.openhab.binding.zwavejs.internal.api;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Future;
@@ -52,6 +54,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
 import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.typeadapters.RuntimeTypeAdapterFactory;
 
 /**
@@ -81,6 +85,8 @@ public class ZWaveJSClient implements WebSocketListener {
 
     private static final int RECONNECT_INTERVAL_MINUTES = 2;
     private static final String BINDING_SHUTDOWN_MESSAGE = "Binding shutdown";
+    private static final Map<String, Class<? extends BaseMessage>> MESSAGE_TYPES = Map.of("version",
+            VersionMessage.class, "result", ResultMessage.class, "event", EventMessage.class);
 
     private final Logger logger = LoggerFactory.getLogger(ZWaveJSClient.class);
     private final WebSocketClient wsClient;
@@ -295,7 +301,7 @@ public class ZWaveJSClient implements WebSocketListener {
     public void onWebSocketText(@NonNullByDefault({}) String message) {
         BaseMessage baseEvent = null;
         try {
-            baseEvent = gson.fromJson(message, BaseMessage.class);
+            baseEvent = parseMessage(message);
         } catch (JsonParseException ex) {
             logger.warn("Failed to parse incoming WebSocket message: {}", ex.getMessage());
             logger.trace("RECV | {}", message);
@@ -335,6 +341,44 @@ public class ZWaveJSClient implements WebSocketListener {
         }
     }
 
+    /**
+     * Parses a message received from the Z-Wave JS Webservice.
+     *
+     * The runtime type adapter reads the whole message into a {@link com.google.gson.JsonElement} tree before it
+     * can select the subtype, which doubles the memory needed for the large state dump returned by
+     * {@code start_listening}. If the type of the message is known, it is therefore deserialized directly.
+     *
+     * @param message the message
+     * @return the parsed message
+     * @throws JsonParseException if the message can't be parsed
+     */
+    private @Nullable BaseMessage parseMessage(String message) throws JsonParseException {
+        String type = peekType(message);
+        Class<? extends BaseMessage> messageClass = type != null ? MESSAGE_TYPES.get(type) : null;
+        return gson.fromJson(message, messageClass != null ? messageClass : BaseMessage.class);
+    }
+
+    /**
+     * Gets the type of a message by scanning its top level fields, without building any objects for the values.
+     *
+     * @param message the message
+     * @return the type or null if the message has no type or is not a valid JSON object
+     */
+    private static @Nullable String peekType(String message) {
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("type".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // let gson report the problem when parsing the message
+        }
+        return null;
+    }
+
     private void logEventResponse(BaseMessage baseEvent, String message) {
         if (baseEvent instanceof ResultMessage resultMessage) {
             if (resultMessage.success && (resultMessage.result != null && resultMessage.result.status != 5)) {
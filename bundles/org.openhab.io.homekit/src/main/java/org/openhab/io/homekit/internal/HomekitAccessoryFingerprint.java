@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.io.homekit.internal.accessories.HomekitAccessoryFactory;
+
+/**
+ * Captures everything a root accessory is built from: the item instances of the root item, its (nested) group members
+ * and the accessory groups it belongs to, together with their HomeKit metadata.
+ *
+ * If the fingerprint of an item did not change since its accessory was created, the accessory can be kept as is and
+ * does not need to be re-created. Items are compared by identity, because the item registry replaces the item instance
+ * on every update and the accessory holds on to the instance it was created with.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class HomekitAccessoryFingerprint {
+    private final List<Entry> entries;
+
+    private HomekitAccessoryFingerprint(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Create the fingerprint for the current state of an item in the item and metadata registry.
+     *
+     * @param item root item of the accessory
+     * @param itemRegistry item registry
+     * @param metadataRegistry metadata registry
+     * @return fingerprint of the item
+     */
+    public static HomekitAccessoryFingerprint of(Item item, ItemRegistry itemRegistry,
+            MetadataRegistry metadataRegistry) {
+        final List<Entry> entries = new ArrayList<>();
+        final Set<Item> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        addItem(item, metadataRegistry, entries, visited);
+        for (GroupItem group : HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry)) {
+            if (visited.add(group)) {
+                entries.add(new Entry(group, metadataRegistry.get(getMetadataKey(group))));
+            }
+        }
+        return new HomekitAccessoryFingerprint(entries);
+    }
+
+    private static void addItem(Item item, MetadataRegistry metadataRegistry, List<Entry> entries, Set<Item> visited) {
+        if (!visited.add(item)) {
+            return;
+        }
+        entries.add(new Entry(item, metadataRegistry.get(getMetadataKey(item))));
+        if (item instanceof GroupItem groupItem) {
+            for (Item member : groupItem.getMembers()) {
+                addItem(member, metadataRegistry, entries, visited);
+            }
+        }
+    }
+
+    private static MetadataKey getMetadataKey(Item item) {
+        return new MetadataKey(HomekitAccessoryFactory.METADATA_KEY, item.getUID());
+    }
+
+    /**
+     * @param other fingerprint to compare with, might be null
+     * @return true if both fingerprints refer to the same item instances with the same HomeKit metadata
+     */
+    public boolean matches(@Nullable HomekitAccessoryFingerprint other) {
+        if (other == null || other.entries.size() != entries.size()) {
+            return false;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            if (!entries.get(i).matches(other.entries.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Entry {
+        private final Item item;
+        private final @Nullable String value;
+        private final @Nullable Map<String, Object> configuration;
+
+        Entry(Item item, @Nullable Metadata metadata) {
+            this.item = item;
+            this.value = metadata != null ? metadata.getValue() : null;
+            this.configuration = metadata != null ? metadata.getConfiguration() : null;
+        }
+
+        boolean matches(Entry other) {
+            return item == other.item && Objects.equals(value, other.value)
+                    && Objects.equals(configuration, other.configuration);
+        }
+    }
+}
@@ -12,11 +12,20 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -25,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
 
 /**
  * Subscribes and unsubscribes from Item changes to enable notification to HomeKit
@@ -32,11 +42,31 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * Characteristic change notifications are not sent right away, but collected for a short period and then published
+ * within one update batch of the bridge. This way HAP-Java sends a single event message per connected controller for
+ * all characteristics changed in the meantime (e.g. by a scene), and characteristics that changed several times are
+ * only reported once with their latest value.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
+    private static final int NOTIFICATION_DELAY_MS = 10;
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final Map<ItemKey, HomekitCharacteristicChangeCallback> pendingNotifications = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private @Nullable ScheduledFuture<?> notificationJob;
+    private @Nullable HomekitRoot bridge;
+
+    /**
+     * Set the bridge used to batch characteristic change notifications.
+     *
+     * @param bridge the bridge, or null if notifications should be published without batching
+     */
+    public synchronized void setBridge(@Nullable HomekitRoot bridge) {
+        this.bridge = bridge;
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -58,7 +88,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = (changedItem, oldState, newState) -> queueNotification(itemKey, callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -94,11 +124,66 @@ public class HomekitAccessoryUpdater {
         if (item == null) {
             return;
         }
-        subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
+        ItemKey itemKey = new ItemKey(item, key);
+        subscriptionsByName.computeIfPresent(itemKey, (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
             return null;
         });
+        synchronized (this) {
+            pendingNotifications.remove(itemKey);
+        }
+    }
+
+    /**
+     * Cancel pending notifications and stop batching them through the bridge.
+     */
+    public synchronized void stop() {
+        final ScheduledFuture<?> job = notificationJob;
+        if (job != null) {
+            job.cancel(false);
+            notificationJob = null;
+        }
+        pendingNotifications.clear();
+        bridge = null;
+    }
+
+    private synchronized void queueNotification(ItemKey itemKey, HomekitCharacteristicChangeCallback callback) {
+        // a later change of the same characteristic replaces the pending one, as HAP-Java reads the current value
+        // when the notification is published
+        pendingNotifications.put(itemKey, callback);
+        if (notificationJob == null) {
+            notificationJob = scheduler.schedule(this::publishNotifications, NOTIFICATION_DELAY_MS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void publishNotifications() {
+        final List<HomekitCharacteristicChangeCallback> callbacks;
+        final @Nullable HomekitRoot bridge;
+        synchronized (this) {
+            callbacks = new ArrayList<>(pendingNotifications.values());
+            pendingNotifications.clear();
+            notificationJob = null;
+            bridge = this.bridge;
+        }
+        logger.trace("Publishing {} characteristic change notifications", callbacks.size());
+        if (bridge != null) {
+            bridge.batchUpdate();
+        }
+        try {
+            for (HomekitCharacteristicChangeCallback callback : callbacks) {
+                try {
+                    callback.changed();
+                } catch (RuntimeException e) {
+                    logger.warn("Could not publish characteristic change notification: {}", e.getMessage());
+                }
+            }
+        } finally {
+            if (bridge != null) {
+                bridge.completeUpdateBatch();
+            }
+        }
     }
 
     @FunctionalInterface
@@ -23,8 +23,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -75,6 +77,18 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private final Set<String> pendingUpdates = new HashSet<>();
 
+    /**
+     * Fingerprints of the root accessories currently registered, used to skip re-creating accessories whose items and
+     * metadata did not change. An entry only exists while the real (non-dummy) accessory is registered.
+     */
+    private final Map<String, HomekitAccessoryFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes runs of {@link #applyUpdates()}. Accessories are created while holding only this lock, so item and
+     * metadata registry events are not blocked while a large batch of updates is processed.
+     */
+    private final Object applyUpdatesLock = new Object();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -279,34 +293,76 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
-    private synchronized void applyUpdates() {
-        logger.trace("Apply updates");
+    private void applyUpdates() {
+        synchronized (applyUpdatesLock) {
+            final long start = System.nanoTime();
+            final Set<String> names;
+            synchronized (this) {
+                names = new HashSet<>(pendingUpdates);
+                pendingUpdates.clear();
+            }
+            logger.trace("Apply updates for {}", names);
+
+            // re-create only the accessories whose items or metadata changed. this is done without holding the
+            // listener lock, as creating accessories for a large batch of items can take a while.
+            final Map<String, @Nullable AbstractHomekitAccessoryImpl> rebuilt = new HashMap<>();
+            final Map<String, HomekitAccessoryFingerprint> rebuiltFingerprints = new HashMap<>();
+            int unchanged = 0;
+            for (final String name : names) {
+                final Optional<Item> item = getItemOptional(name);
+                if (item.isEmpty()) {
+                    rebuilt.put(name, null);
+                    continue;
+                }
+                final HomekitAccessoryFingerprint fingerprint = HomekitAccessoryFingerprint.of(item.get(),
+                        itemRegistry, metadataRegistry);
+                if (fingerprint.matches(fingerprints.get(name))) {
+                    logger.trace(" Accessory {} unchanged", name);
+                    unchanged++;
+                    continue;
+                }
+                logger.trace(" Add items {}", name);
+                rebuilt.put(name, createRootAccessory(item.get()));
+                rebuiltFingerprints.put(name, fingerprint);
+            }
+            final long created = System.nanoTime();
 
-        HomekitRoot bridge = accessoryRegistry.getBridge();
-        if (bridge != null) {
-            bridge.batchUpdate();
-        }
+            synchronized (this) {
+                HomekitRoot bridge = accessoryRegistry.getBridge();
+                if (bridge != null) {
+                    bridge.batchUpdate();
+                }
 
-        try {
-            boolean changed = false;
-            for (final String name : pendingUpdates) {
-                String oldValue = knownAccessories.get(name);
-                accessoryRegistry.remove(name);
-                logger.trace(" Add items {}", name);
-                getItemOptional(name).ifPresent(this::createRootAccessories);
-                if (accessoryChanged(name, oldValue)) {
-                    changed = true;
+                try {
+                    boolean changed = false;
+                    for (final Entry<String, @Nullable AbstractHomekitAccessoryImpl> entry : rebuilt.entrySet()) {
+                        final String name = entry.getKey();
+                        final @Nullable AbstractHomekitAccessoryImpl accessory = entry.getValue();
+                        String oldValue = knownAccessories.get(name);
+                        accessoryRegistry.remove(name);
+                        fingerprints.remove(name);
+                        if (accessory != null) {
+                            registerRootAccessory(name, accessory, rebuiltFingerprints.get(name));
+                        }
+                        if (accessoryChanged(name, oldValue)) {
+                            changed = true;
+                        }
+                    }
+                    if (checkMissingAccessories() || changed) {
+                        makeNewConfigurationRevision();
+                    }
+                    checkForDummyAccessories();
+                } finally {
+                    if (bridge != null) {
+                        bridge.completeUpdateBatch();
+                    }
                 }
             }
-            pendingUpdates.clear();
-            if (checkMissingAccessories() || changed) {
-                makeNewConfigurationRevision();
-            }
-            checkForDummyAccessories();
-        } finally {
-            if (bridge != null) {
-                bridge.completeUpdateBatch();
-            }
+            logger.debug(
+                    "Applied updates for {} items in instance {}: {} accessories re-created, {} unchanged, took {} ms ({} ms creating accessories).",
+                    names.size(), instance, rebuilt.size(), unchanged,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    TimeUnit.NANOSECONDS.toMillis(created - start));
         }
     }
 
@@ -331,14 +387,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        fingerprints.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
         accessoryRegistry.setBridge(bridge);
+        updater.setBridge(bridge);
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setBridge(accessoryRegistry.getBridge());
     }
 
     public void updateSettings(HomekitSettings settings) {
@@ -355,6 +414,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
         accessoryRegistry.unsetBridge();
+        updater.stop();
     }
 
     public Map<String, HomekitAccessory> getAccessories() {
@@ -434,22 +494,54 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      * @param item openHAB item
      */
     private void createRootAccessories(Item item) {
+        final HomekitAccessoryFingerprint fingerprint = HomekitAccessoryFingerprint.of(item, itemRegistry,
+                metadataRegistry);
+        final @Nullable AbstractHomekitAccessoryImpl accessory = createRootAccessory(item);
+        if (accessory != null) {
+            registerRootAccessory(item.getName(), accessory, fingerprint);
+        }
+    }
+
+    /**
+     * Register a root accessory created by {@link #createRootAccessory(Item)} with the accessory registry.
+     *
+     * @param name name of the root item
+     * @param accessory accessory to register
+     * @param fingerprint fingerprint of the items the accessory was created from
+     */
+    private void registerRootAccessory(String name, AbstractHomekitAccessoryImpl accessory,
+            @Nullable HomekitAccessoryFingerprint fingerprint) {
+        knownAccessories.put(name, accessory.toJson());
+        accessoryRegistry.addRootAccessory(name, accessory);
+        if (fingerprint != null) {
+            fingerprints.put(name, fingerprint);
+        }
+    }
+
+    /**
+     * Create the root accessory for given openHAB item, without registering it.
+     *
+     * @see #createRootAccessories(Item)
+     * @param item openHAB item
+     * @return the accessory, or null if the item is not a root accessory of this instance
+     */
+    private @Nullable AbstractHomekitAccessoryImpl createRootAccessory(Item item) {
         final List<Entry<HomekitAccessoryType, HomekitCharacteristicType>> accessoryTypes = HomekitAccessoryFactory
                 .getAccessoryTypes(item, metadataRegistry);
         if (accessoryTypes.isEmpty()) {
-            return;
+            return null;
         }
 
         final List<GroupItem> groups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry);
         // Don't create accessories that are sub-accessories of other accessories
         if (groups.stream().anyMatch(g -> !HomekitAccessoryFactory.getAccessoryTypes(g, metadataRegistry).isEmpty())) {
-            return;
+            return null;
         }
 
         final @Nullable Map<String, Object> itemConfiguration = HomekitAccessoryFactory.getItemConfiguration(item,
                 metadataRegistry);
         if (!itemIsForThisBridge(item, itemConfiguration)) {
-            return;
+            return null;
         }
 
         final HomekitAccessoryType primaryAccessoryType = getPrimaryAccessoryType(item, accessoryTypes,
@@ -464,7 +556,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             if (accessory.isLinkedServiceOnly()) {
                 logger.warn("Item '{}' is a '{}' which must be nested another another accessory.", taggedItem.getName(),
                         primaryAccessoryType);
-                return;
+                return null;
             }
 
             accessoryTypes.stream().filter(aType -> !primaryAccessoryType.equals(aType.getKey()))
@@ -480,10 +572,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                             logger.warn("Cannot create additional accessory {}", additionalTaggedItem);
                         }
                     });
-            knownAccessories.put(taggedItem.getName(), accessory.toJson());
-            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            return accessory;
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
+            return null;
         }
     }
 
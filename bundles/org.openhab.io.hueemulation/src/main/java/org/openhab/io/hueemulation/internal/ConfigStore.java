@@ -100,6 +100,11 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer()).create();
 
+    /**
+     * Cache of the serialized lights and groups, to be used for the frequently polled endpoints
+     */
+    public final HueJsonCache jsonCache = new HueJsonCache(gson);
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.hueemulation.internal.dto.HueDataStore;
+import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+
+import com.google.gson.Gson;
+
+/**
+ * Caches the serialized lights and groups of the {@link HueDataStore}. Hue clients like Amazon Echos and Harmony hubs
+ * poll the lights and groups endpoints a lot, but usually only a few entries change between two polls.
+ * <p>
+ * Each entry is only serialized again if one of the inputs of its JSON representation changed, for instance the item
+ * state of a light. The inputs cover every serialized field of an entry. They are immutable objects, objects that are
+ * replaced on change or the mutable fields of nested objects, so an identity comparison is sufficient. The assembled
+ * document is only rebuilt if at least one entry changed, and gets a new version that is used as HTTP ETag.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class HueJsonCache {
+    private final Gson gson;
+    private final String etagPrefix = Long.toHexString(System.currentTimeMillis());
+
+    private final DocumentCache<HueLightEntry> lights = new DocumentCache<>(
+            entry -> new @Nullable Object[] { entry, entry.item, entry.item.getState(), entry.lastCommand,
+                    entry.lastHueChange, entry.name, entry.deviceType, entry.hascolor, entry.config,
+                    entry.capabilities, entry.capabilities.certified, entry.capabilities.streaming.renderer,
+                    entry.capabilities.streaming.proxy });
+    private final DocumentCache<HueGroupEntry> groups = new DocumentCache<>(
+            entry -> new @Nullable Object[] { entry, entry.action, entry.name, entry.type, entry.roomclass,
+                    entry.lights, entry.sensors });
+
+    /**
+     * A serialized document together with its version.
+     */
+    public static class Document {
+        public final String json;
+        public final String etag;
+
+        Document(String json, String etag) {
+            this.json = json;
+            this.etag = etag;
+        }
+    }
+
+    public HueJsonCache(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * @param lights the lights of the data store
+     * @return the serialized lights
+     */
+    public synchronized Document getLights(Map<String, HueLightEntry> lights) {
+        return this.lights.get(lights);
+    }
+
+    /**
+     * @param groups the groups of the data store
+     * @return the serialized groups
+     */
+    public synchronized Document getGroups(Map<String, HueGroupEntry> groups) {
+        return this.groups.get(groups);
+    }
+
+    /**
+     * Serializes the full data store, reusing the cached lights and groups.
+     *
+     * @param ds the data store
+     * @return the serialized data store
+     */
+    public String getFullState(HueDataStore ds) {
+        // same field order as the reflective serialization of the data store
+        return new StringBuilder("{\"config\":").append(gson.toJson(ds.config)) //
+                .append(",\"lights\":").append(getLights(ds.lights).json) //
+                .append(",\"groups\":").append(getGroups(ds.groups).json) //
+                .append(",\"scenes\":").append(gson.toJson(ds.scenes)) //
+                .append(",\"rules\":").append(gson.toJson(ds.rules)) //
+                .append(",\"sensors\":").append(gson.toJson(ds.sensors)) //
+                .append(",\"schedules\":").append(gson.toJson(ds.schedules)) //
+                .append(",\"resourcelinks\":").append(gson.toJson(ds.resourcelinks)) //
+                .append(",\"capabilities\":").append(gson.toJson(ds.capabilities)) //
+                .append("}").toString();
+    }
+
+    /**
+     * Forces the given group to be serialized again. Required if the group state got modified in place.
+     *
+     * @param id the hue ID of the group
+     */
+    public synchronized void invalidateGroup(String id) {
+        groups.invalidate(id);
+    }
+
+    /**
+     * Forces the given light to be serialized again. Required if the light state got modified in place.
+     *
+     * @param id the hue ID of the light
+     */
+    public synchronized void invalidateLight(String id) {
+        lights.invalidate(id);
+    }
+
+    private class DocumentCache<T> {
+        private final Function<T, @Nullable Object[]> inputs;
+        private final Map<String, CachedEntry> entries = new HashMap<>();
+        private @Nullable Document document;
+        private long version;
+
+        DocumentCache(Function<T, @Nullable Object[]> inputs) {
+            this.inputs = inputs;
+        }
+
+        Document get(Map<String, T> source) {
+            boolean changed = entries.size() != source.size();
+            for (Map.Entry<String, T> sourceEntry : source.entrySet()) {
+                final @Nullable Object[] currentInputs = inputs.apply(sourceEntry.getValue());
+                final @Nullable CachedEntry cached = entries.get(sourceEntry.getKey());
+                if (cached == null || !cached.matches(currentInputs)) {
+                    entries.put(sourceEntry.getKey(),
+                            new CachedEntry(currentInputs, gson.toJson(sourceEntry.getValue())));
+                    changed = true;
+                }
+            }
+            if (changed) {
+                Iterator<String> iterator = entries.keySet().iterator();
+                while (iterator.hasNext()) {
+                    if (!source.containsKey(iterator.next())) {
+                        iterator.remove();
+                    }
+                }
+            }
+
+            Document document = this.document;
+            if (document == null || changed) {
+                StringBuilder json = new StringBuilder("{");
+                for (String key : source.keySet()) {
+                    final @Nullable CachedEntry cached = entries.get(key);
+                    if (cached == null) {
+                        continue;
+                    }
+                    if (json.length() > 1) {
+                        json.append(',');
+                    }
+                    json.append(gson.toJson(key)).append(':').append(cached.json);
+                }
+                json.append('}');
+                version++;
+                document = new Document(json.toString(), etagPrefix + "-" + version);
+                this.document = document;
+            }
+            return document;
+        }
+
+        void invalidate(String id) {
+            entries.remove(id);
+        }
+    }
+
+    private static class CachedEntry {
+        private final @Nullable Object[] inputs;
+        private final String json;
+
+        CachedEntry(@Nullable Object[] inputs, String json) {
+            this.inputs = inputs;
+            this.json = json;
+        }
+
+        boolean matches(@Nullable Object[] other) {
+            if (inputs.length != other.length) {
+                return false;
+            }
+            for (int i = 0; i < inputs.length; i++) {
+                if (inputs[i] != other[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
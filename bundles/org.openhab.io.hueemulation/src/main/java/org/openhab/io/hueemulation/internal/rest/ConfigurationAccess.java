@@ -83,7 +83,7 @@ public class ConfigurationAccess {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds)).build();
+        return Response.ok(cs.jsonCache.getFullState(cs.ds)).build();
     }
 
     @GET
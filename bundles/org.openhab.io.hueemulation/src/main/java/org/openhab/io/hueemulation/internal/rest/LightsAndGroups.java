@@ -26,8 +26,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -47,6 +50,7 @@ import org.openhab.io.hueemulation.internal.ConfigStore;
 import org.openhab.io.hueemulation.internal.ConfigurationListener;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.HueEmulationService;
+import org.openhab.io.hueemulation.internal.HueJsonCache;
 import org.openhab.io.hueemulation.internal.NetworkUtils;
 import org.openhab.io.hueemulation.internal.SemanticHueModelBuilder;
 import org.openhab.io.hueemulation.internal.SemanticUtils;
@@ -317,12 +321,25 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return cachedResponse(request, cs.jsonCache.getLights(cs.ds.lights));
+    }
+
+    /**
+     * Creates the response for a cached document. Responds with "304 Not Modified" if the client already has the
+     * current version of the document, according to the If-None-Match header.
+     */
+    private Response cachedResponse(Request request, HueJsonCache.Document document) {
+        EntityTag etag = new EntityTag(document.etag);
+        ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(document.json).tag(etag).build();
     }
 
     @GET
@@ -473,6 +490,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
             hueDevice.lastCommand = command;
             hueDevice.lastHueChange = newState;
         }
+        cs.jsonCache.invalidateLight(id);
 
         return Response.ok(cs.gson.toJson(responses, new TypeToken<List<?>>() {
         }.getType())).build();
@@ -506,6 +524,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
         List<HueResponse> responses = new ArrayList<>();
         Command command = StateUtils.computeCommandByState(responses, "/groups/" + id + "/state/", hueDevice.action,
                 state);
+        cs.jsonCache.invalidateGroup(id);
 
         // If a command could be created, post it to the framework now
         if (command != null) {
@@ -526,12 +545,12 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return cachedResponse(request, cs.jsonCache.getGroups(cs.ds.groups));
     }
 
     @GET
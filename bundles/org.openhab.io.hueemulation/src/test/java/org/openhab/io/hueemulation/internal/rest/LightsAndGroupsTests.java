@@ -23,6 +23,8 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -443,6 +445,41 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsNotModified() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertThat(response.getStatus(), is(200));
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertNotNull(etag);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(304));
+
+        // A state change of a light invalidates the cached document
+        HueLightEntry hueLightEntry = cs.ds.lights.get("1");
+        assertNotNull(hueLightEntry);
+        hueLightEntry.item.setState(OnOffType.ON);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(etag)));
+        assertThat(response.getContentAsString(), containsString("\"on\":true"));
+
+        // so does a change of the light configuration
+        etag = response.getHeaders().get(HttpHeader.ETAG);
+        hueLightEntry.config = new HueLightEntry.Config("sultanbulb");
+        hueLightEntry.capabilities.streaming.renderer = true;
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights").method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, etag).send();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(etag)));
+        assertThat(response.getContentAsString(), containsString("\"archetype\":\"sultanbulb\""));
+        assertThat(response.getContentAsString(), containsString("\"renderer\":true"));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
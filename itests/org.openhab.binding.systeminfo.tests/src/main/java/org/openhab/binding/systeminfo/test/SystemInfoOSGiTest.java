@@ -20,6 +20,7 @@ import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -151,6 +152,7 @@ public class SystemInfoOSGiTest extends JavaOSGiTest {
         lenient().when(mockedSystemInfo.getPowerSourceCount()).thenReturn(1);
         lenient().when(mockedSystemInfo.getDriveCount()).thenReturn(1);
         lenient().when(mockedSystemInfo.getFanCount()).thenReturn(1);
+        lenient().when(mockedSystemInfo.sample(any())).thenReturn(Duration.ZERO);
 
         registerService(mockedSystemInfo);
 